@@ -0,0 +1,53 @@
+package com.ssafy.trip.service.routing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직선 거리 / 거리 행렬 계산
+ *  - buildDistanceMatrix: 요청마다 TSP 전에 수행하는 n x n 행렬 생성 (할당량은 gc 프로파일러의 gc.alloc.rate.norm)
+ *  - haversine: 행렬 없이 모든 쌍에 대해 정적 haversineKm 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoDistanceBenchmark {
+
+    @Param({"5", "10", "15", "20"})
+    private int pointCount;
+
+    @Param({"seoul", "jeju", "nationwide"})
+    private String region;
+
+    @Param({"HAVERSINE", "EQUIRECTANGULAR"})
+    private GeoDistanceCalculator.Mode distanceMode;
+
+    private GeoDistanceCalculator calculator;
+    private double[] lats;
+    private double[] lngs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double[][] points = KoreanCoordinates.sample(region, pointCount, 42L);
+        lats = points[0];
+        lngs = points[1];
+        calculator = new GeoDistanceCalculator(distanceMode);
+    }
+
+    @Benchmark
+    public DistanceMatrix buildDistanceMatrix() {
+        return calculator.build(lats, lngs);
+    }
+
+    @Benchmark
+    public double haversine() {
+        double sum = 0;
+        for (int i = 0; i < pointCount; i++) {
+            for (int j = i + 1; j < pointCount; j++) {
+                sum += GeoDistanceCalculator.haversineKm(lats[i], lngs[i], lats[j], lngs[j]);
+            }
+        }
+        return sum;
+    }
+}
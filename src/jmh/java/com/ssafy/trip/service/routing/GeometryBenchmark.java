@@ -0,0 +1,73 @@
+package com.ssafy.trip.service.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.trip.dto.GeoPath;
+import com.ssafy.trip.dto.RoutingResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 길찾기 응답 경로 후처리
+ *  - 단순화(줌 14 기준 허용 오차), Encoded Polyline, JSON 직렬화, 저장용 바이너리 인코딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeometryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int pathPoints;
+
+    private GeoPath path;
+    private RoutingResponse response;
+    private double toleranceMeters;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 서울 도심에서 1~2m 간격으로 이어지는 도로 경로 흉내
+        Random random = new Random(42L);
+        GeoPath.Builder builder = GeoPath.builder(pathPoints);
+        double lat = 37.5665;
+        double lng = 126.9780;
+        double heading = 0;
+        for (int i = 0; i < pathPoints; i++) {
+            heading += random.nextGaussian() * 0.2;
+            lat += Math.cos(heading) * 1.5e-5;
+            lng += Math.sin(heading) * 1.5e-5;
+            builder.add(lat, lng);
+        }
+        path = builder.build();
+
+        response = new RoutingResponse();
+        response.setTotalDistanceMeters(pathPoints * 1.5);
+        response.setTotalDurationSeconds(pathPoints / 5);
+        response.setPolyline(path);
+
+        toleranceMeters = PolylineSimplifier.toleranceForZoom(14, path.lat(0));
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public GeoPath simplify() {
+        return PolylineSimplifier.simplify(path, toleranceMeters);
+    }
+
+    @Benchmark
+    public String encodePolyline() {
+        return PolylineEncoder.encode(path);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeStoredGeometry() {
+        return RouteGeometryCodec.encode(List.of(new RouteGeometryCodec.DayGeometry(1, 0, 0, path)));
+    }
+}
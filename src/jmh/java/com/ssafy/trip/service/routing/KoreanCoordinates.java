@@ -0,0 +1,88 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 국내 좌표 집합
+ *  - 실제 관광지 좌표 주변에 지역 규모에 맞는 오차를 더해 생성 (seed 고정 → 실행마다 같은 입력)
+ *  - seoul: 도심 관광지 (수 km), jeju: 섬 일주 (수십 km), nationwide: 전국 도시 (수백 km)
+ */
+public final class KoreanCoordinates {
+
+    private static final double[][] SEOUL = {
+            {37.5796, 126.9770}, // 경복궁
+            {37.5826, 126.9831}, // 북촌 한옥마을
+            {37.5636, 126.9826}, // 명동
+            {37.5512, 126.9882}, // N서울타워
+            {37.5665, 127.0092}, // 동대문디자인플라자
+            {37.5345, 126.9946}, // 이태원
+            {37.5563, 126.9220}, // 홍대입구
+            {37.5219, 126.9245}, // 여의도 한강공원
+            {37.4979, 127.0276}, // 강남역
+            {37.5115, 127.0595}, // 코엑스
+            {37.5126, 127.1025}, // 롯데월드타워
+            {37.5796, 127.0450}, // 청량리
+    };
+
+    private static final double[][] JEJU = {
+            {33.4996, 126.5312}, // 제주시
+            {33.5062, 126.9530}, // 우도
+            {33.4581, 126.9425}, // 성산일출봉
+            {33.3617, 126.5292}, // 한라산
+            {33.2541, 126.5601}, // 서귀포
+            {33.2448, 126.4122}, // 중문관광단지
+            {33.3943, 126.2396}, // 협재해수욕장
+            {33.4312, 126.9276}, // 섭지코지
+    };
+
+    private static final double[][] NATIONWIDE = {
+            {37.5665, 126.9780}, // 서울
+            {37.4563, 126.7052}, // 인천
+            {37.7519, 128.8761}, // 강릉
+            {38.2070, 128.5918}, // 속초
+            {36.5684, 128.7294}, // 안동
+            {35.8714, 128.6014}, // 대구
+            {35.8562, 129.2247}, // 경주
+            {35.1796, 129.0756}, // 부산
+            {34.8544, 128.4331}, // 통영
+            {34.7604, 127.6622}, // 여수
+            {35.8242, 127.1480}, // 전주
+            {33.4996, 126.5312}, // 제주
+    };
+
+    private KoreanCoordinates() {
+    }
+
+    /**
+     * @return [0] = 위도 배열, [1] = 경도 배열 (길이 n)
+     */
+    public static double[][] sample(String region, int n, long seed) {
+        double[][] anchors;
+        double jitterDeg;
+        switch (region) {
+            case "seoul" -> {
+                anchors = SEOUL;
+                jitterDeg = 0.003;  // 약 300m
+            }
+            case "jeju" -> {
+                anchors = JEJU;
+                jitterDeg = 0.01;   // 약 1km
+            }
+            case "nationwide" -> {
+                anchors = NATIONWIDE;
+                jitterDeg = 0.05;   // 약 5km
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 지역입니다: " + region);
+        }
+
+        Random random = new Random(seed);
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            double[] anchor = anchors[i % anchors.length];
+            lats[i] = anchor[0] + random.nextGaussian() * jitterDeg;
+            lngs[i] = anchor[1] + random.nextGaussian() * jitterDeg;
+        }
+        return new double[][]{lats, lngs};
+    }
+}
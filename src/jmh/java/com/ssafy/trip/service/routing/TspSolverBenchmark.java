@@ -0,0 +1,56 @@
+package com.ssafy.trip.service.routing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경유지 순서 최적화
+ *  - exact          : Held-Karp 단일 스레드 (운영 기본값)
+ *  - exact-parallel : Held-Karp 병렬 (routing.tsp.parallel.enabled=true, 15점 이상에서만 병렬)
+ *  - tiered         : 운영과 같은 TspOptimizer (12점 이하 정확해, 초과 시 휴리스틱)
+ *    휴리스틱은 시간 예산(TIERED_BUDGET_MS)을 다 쓰고 끝나므로 13점 이상 수치는 예산을 지키는지 확인하는 용도
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TspSolverBenchmark {
+
+    private static final long TIERED_BUDGET_MS = 20;
+
+    @Param({"5", "10", "15", "20"})
+    private int pointCount;
+
+    @Param({"seoul", "jeju", "nationwide"})
+    private String region;
+
+    @Param({"exact", "exact-parallel", "tiered"})
+    private String solverMode;
+
+    private DistanceMatrix matrix;
+    private TspSolver exactSolver;
+    private TspOptimizer optimizer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double[][] points = KoreanCoordinates.sample(region, pointCount, 42L);
+        matrix = new GeoDistanceCalculator(GeoDistanceCalculator.Mode.HAVERSINE).build(points[0], points[1]);
+
+        // RoutingConfig 기본값과 동일
+        DpBufferPool pool = new DpBufferPool(256L * 1024 * 1024, 2);
+        exactSolver = switch (solverMode) {
+            case "exact", "tiered" -> new HeldKarpTspSolver(pool, 1, 15);
+            case "exact-parallel" -> new HeldKarpTspSolver(pool, 4, 15);
+            default -> throw new IllegalArgumentException("지원하지 않는 solverMode 입니다: " + solverMode);
+        };
+        optimizer = new TspOptimizer(exactSolver, new LocalSearchTspSolver(), 12, TIERED_BUDGET_MS, 2000);
+    }
+
+    @Benchmark
+    public int[] optimizeExactTspPath() {
+        if ("tiered".equals(solverMode)) {
+            return optimizer.optimize(matrix, TIERED_BUDGET_MS).order();
+        }
+        return exactSolver.solve(matrix, Long.MAX_VALUE);
+    }
+}
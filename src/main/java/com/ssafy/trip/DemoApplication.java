@@ -3,13 +3,24 @@ package com.ssafy.trip;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.Map;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableAsync
 public class DemoApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(DemoApplication.class, args);
+		SpringApplication app = new SpringApplication(DemoApplication.class);
+		// 지표 노출 기본값 (application.properties 에 같은 키가 있으면 그 값이 우선)
+		app.setDefaultProperties(Map.of(
+				"management.endpoints.web.exposure.include", "health,info,metrics,prometheus",
+				"management.metrics.tags.application", "enjoy-trip",
+				"server.tomcat.mbeanregistry.enabled", "true"
+		));
+		app.run(args);
 	}
 
 }
@@ -0,0 +1,125 @@
+package com.ssafy.trip.client;
+
+/**
+ * 외부 API 호출용 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN)
+ *  - CLOSED   : 최근 windowSize 개 호출 결과를 기록, minimumCalls 개 이상에서 실패율이 임계치 이상이면 OPEN
+ *  - OPEN     : openDurationMs 동안 호출 차단 (tryAcquire = false)
+ *  - HALF_OPEN: 시험 호출 probeCalls 개만 통과, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 사용: tryAcquire() 가 true 면 호출 후 결과에 따라 onSuccess / onFailure / onIgnored 중 하나를 반드시 호출
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int probeCalls;
+
+    // 최근 호출 결과 원형 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesStarted;
+    private int probeSuccesses;
+
+    public CircuitBreaker(int windowSize,
+                          int minimumCalls,
+                          double failureRateThreshold,
+                          long openDurationMs,
+                          int probeCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMs * 1_000_000L;
+        this.probeCalls = Math.max(1, probeCalls);
+        this.window = new boolean[windowSize];
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= probeCalls) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probeSuccesses >= probeCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /** 상태 판단에 넣지 않을 결과 (요청 자체 오류 등), 시험 호출 자리는 반납 */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowPos]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowPos = (windowPos + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowPos = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,280 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.trip.dto.GeoPath;
+import com.ssafy.trip.dto.RoutingRequest;
+import com.ssafy.trip.dto.RoutingResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 네이버 Direction(driving) API 호출
+ *  - 입력 좌표 순서 그대로 start / waypoints / goal 로 요청
+ *  - trafast 후보 중 거리가 가장 짧은 경로의 요약 + path 반환 (응답 스트림을 바로 파싱, {@link NaverDirectionParser})
+ *  - 경유지가 API 제한(max-waypoints)을 넘으면 끝점을 공유하는 구간으로 나눠 동시에 요청한 뒤 이어 붙임
+ *  - 장애 격리: 연결/응답 타임아웃(naverRestTemplate) + 동시 호출 한도(bulkhead) + 서킷 브레이커
+ *    사용 불가 상황은 UpstreamUnavailableException 으로 알려 호출 측이 근사 결과로 대체할 수 있게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverDirectionClient {
+
+    @Qualifier("naverRestTemplate")
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Value("${naver.map.client-id}")
+    private String naverClientId;
+
+    @Value("${naver.map.client-secret}")
+    private String naverClientSecret;
+
+    // driving(Directions 5) 경유지 최대 5개, Directions 15 사용 시 15
+    @Value("${routing.naver.max-waypoints:5}")
+    private int maxWaypoints;
+
+    @Value("${routing.naver.segment-concurrency:4}")
+    private int segmentConcurrency;
+
+    @Value("${routing.naver.segment-queue-capacity:64}")
+    private int segmentQueueCapacity;
+
+    // 테스트에서는 로컬 대역 서버 주소로 교체
+    @Value("${naver.map.direction-url:https://maps.apigw.ntruss.com/map-direction/v1/driving}")
+    private String directionUrl;
+
+    @Value("${routing.naver.bulkhead.max-concurrent:16}")
+    private int bulkheadMaxConcurrent;
+
+    // 자리가 없을 때 기다리는 최대 시간, 넘으면 바로 UpstreamUnavailableException
+    @Value("${routing.naver.bulkhead.max-wait-ms:100}")
+    private long bulkheadMaxWaitMs;
+
+    @Value("${routing.naver.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${routing.naver.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${routing.naver.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${routing.naver.circuit.open-duration-ms:30000}")
+    private long circuitOpenDurationMs;
+
+    @Value("${routing.naver.circuit.probe-calls:3}")
+    private int circuitProbeCalls;
+
+    // 구간 요청 전용 스레드 풀 (가득 차면 호출 스레드가 직접 수행)
+    private ThreadPoolExecutor segmentExecutor;
+
+    private NaverDirectionParser directionParser;
+    private Semaphore bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        directionParser = new NaverDirectionParser(objectMapper.getFactory());
+        bulkhead = new Semaphore(bulkheadMaxConcurrent);
+        circuitBreaker = new CircuitBreaker(
+                circuitWindowSize,
+                circuitMinimumCalls,
+                circuitFailureRateThreshold,
+                circuitOpenDurationMs,
+                circuitProbeCalls
+        );
+        segmentExecutor = new ThreadPoolExecutor(
+                segmentConcurrency, segmentConcurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(segmentQueueCapacity),
+                new CustomizableThreadFactory("naver-segment-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        segmentExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        segmentExecutor.shutdown();
+    }
+
+    public RoutingResponse getDirection(List<RoutingRequest.Point> points) {
+        int segmentSize = maxWaypoints + 2;
+        if (points.size() <= segmentSize) {
+            return requestSegment(points);
+        }
+
+        // 구간 i 의 도착점 = 구간 i+1 의 출발점
+        List<CompletableFuture<RoutingResponse>> futures = new ArrayList<>();
+        for (int from = 0; from < points.size() - 1; from += segmentSize - 1) {
+            int to = Math.min(from + segmentSize, points.size());
+            List<RoutingRequest.Point> segment = points.subList(from, to);
+            futures.add(CompletableFuture.supplyAsync(() -> requestSegment(segment), segmentExecutor));
+        }
+
+        List<RoutingResponse> segments = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<RoutingResponse> future : futures) {
+                segments.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return stitch(segments);
+    }
+
+    // 거리/시간은 합산, path 는 경계 중복 좌표를 한 번만 남기고 연결
+    private RoutingResponse stitch(List<RoutingResponse> segments) {
+        double distance = 0;
+        int duration = 0;
+        int pointCount = 0;
+        for (RoutingResponse segment : segments) {
+            pointCount += segment.getPolyline().size();
+        }
+        GeoPath.Builder polyline = GeoPath.builder(pointCount);
+
+        for (RoutingResponse segment : segments) {
+            distance += segment.getTotalDistanceMeters();
+            duration += segment.getTotalDurationSeconds();
+
+            GeoPath path = segment.getPolyline();
+            int skip = 0;
+            if (polyline.size() > 0 && !path.isEmpty()
+                    && polyline.lastLat() == path.lat(0) && polyline.lastLng() == path.lng(0)) {
+                skip = 1;
+            }
+            polyline.addAll(path, skip);
+        }
+
+        RoutingResponse res = new RoutingResponse();
+        res.setTotalDistanceMeters(distance);
+        res.setTotalDurationSeconds(duration);
+        res.setPolyline(polyline.build());
+        return res;
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    // 서킷 → bulkhead 순으로 통과해야 실제 호출
+    private RoutingResponse requestSegment(List<RoutingRequest.Point> points) {
+        if (!circuitBreaker.tryAcquire()) {
+            upstreamMetrics.rejected("naver", "circuit_open");
+            throw new UpstreamUnavailableException("네이버 길찾기 일시 차단 중입니다. (circuit open)");
+        }
+
+        boolean permitted;
+        try {
+            permitted = bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new UpstreamUnavailableException("네이버 길찾기 호출 대기 중 중단되었습니다.", e);
+        }
+        if (!permitted) {
+            circuitBreaker.onIgnored();
+            upstreamMetrics.rejected("naver", "bulkhead_full");
+            throw new UpstreamUnavailableException("네이버 길찾기 동시 호출 한도를 초과했습니다.");
+        }
+
+        try {
+            RoutingResponse res = upstreamMetrics.record("naver", "driving", () -> callDirection(points));
+            circuitBreaker.onSuccess();
+            return res;
+        } catch (HttpClientErrorException e) {
+            log.warn("[NAVER ERROR] {} {}", e.getStatusCode(), e.getResponseBodyAsString());
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                circuitBreaker.onFailure();
+                throw new UpstreamUnavailableException("네이버 길찾기 API 호출 한도 초과: " + e.getStatusCode(), e);
+            }
+            // 4xx 는 요청 자체 문제 → 서킷 판단에서 제외
+            circuitBreaker.onIgnored();
+            throw new RuntimeException("네이버 길찾기 API 호출 실패: " + e.getStatusCode());
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            // 5xx, 연결 실패, 타임아웃
+            circuitBreaker.onFailure();
+            log.warn("[NAVER ERROR] {}", e.getMessage());
+            throw new UpstreamUnavailableException("네이버 길찾기 API 응답 오류", e);
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw new RuntimeException("네이버 길찾기 처리 중 오류", e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private RoutingResponse callDirection(List<RoutingRequest.Point> points) {
+        RoutingRequest.Point startPoint = points.get(0);
+        RoutingRequest.Point goalPoint  = points.get(points.size() - 1);
+
+        String start = startPoint.getLng() + "," + startPoint.getLat();
+        String goal  = goalPoint.getLng() + "," + goalPoint.getLat();
+
+        String waypoints = null;
+        if (points.size() > 2) {
+            waypoints = points.subList(1, points.size() - 1).stream()
+                    .map(p -> p.getLng() + "," + p.getLat())
+                    .collect(Collectors.joining("|"));
+        }
+
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromHttpUrl(directionUrl)
+                .queryParam("start", start)
+                .queryParam("goal", goal)
+                // trafast: 빠른(시간 위주), traoptimal: 최적 (시간/비용 종합)
+                .queryParam("option", "trafast");
+
+        if (waypoints != null && !waypoints.isBlank()) {
+            builder.queryParam("waypoints", waypoints);
+        }
+
+        String url = builder.toUriString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-NCP-APIGW-API-KEY-ID", naverClientId);
+        headers.set("X-NCP-APIGW-API-KEY", naverClientSecret);
+
+        // 본문을 String / JsonNode 로 만들지 않고 입력 스트림에서 바로 최단 후보만 추출
+        NaverDirectionParser.Result best = restTemplate.execute(
+                url,
+                HttpMethod.GET,
+                request -> request.getHeaders().addAll(headers),
+                response -> directionParser.parse(response.getBody())
+        );
+
+        if (best == null) {
+            throw new RuntimeException("Naver Direction: trafast 경로가 없습니다.");
+        }
+
+        // 파서 버퍼는 요청마다 새로 만들어지므로 복사 없이 그대로 사용
+        RoutingResponse res = new RoutingResponse();
+        res.setTotalDistanceMeters(best.distance());
+        res.setTotalDurationSeconds(best.durationMs() / 1000);
+        res.setPolyline(GeoPath.wrapLngLat(best.lngLat(), best.pointCount()));
+        return res;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 네이버 Direction 응답 스트리밍 파서
+ *  - JsonNode 트리 / 문자열 전체를 만들지 않고 HTTP 입력 스트림에서 바로 토큰 단위로 읽음
+ *  - route.trafast 후보 중 거리가 가장 짧은 경로의 path 만 double 배열(lng, lat 순 교차)로 보관
+ *  - summary 가 path 보다 먼저 오고 이미 더 짧은 후보가 있으면 path 는 읽지 않고 건너뜀
+ */
+public class NaverDirectionParser {
+
+    private static final String ROUTE_OPTION = "trafast";
+
+    private final JsonFactory jsonFactory;
+
+    public NaverDirectionParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * @param distance   m
+     * @param durationMs ms
+     * @param lngLat     [lng0, lat0, lng1, lat1, ...] (길이 = pointCount * 2 이상)
+     */
+    public record Result(int distance, int durationMs, double[] lngLat, int pointCount) {}
+
+    /**
+     * @return 가장 짧은 trafast 후보, route.trafast 가 없거나 비어 있으면 null
+     */
+    public Result parse(InputStream in) throws IOException {
+        try (JsonParser p = jsonFactory.createParser(in)) {
+            JsonToken first = p.nextToken();
+            if (first == null) {
+                throw new IOException("네이버 길찾기 응답이 비어 있습니다.");
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new IOException("Naver Direction: JSON 객체가 아닙니다.");
+            }
+
+            Result best = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("route".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                    best = parseRoute(p);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return best;
+        }
+    }
+
+    private Result parseRoute(JsonParser p) throws IOException {
+        Result best = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if (ROUTE_OPTION.equals(field) && p.currentToken() == JsonToken.START_ARRAY) {
+                best = parseCandidates(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return best;
+    }
+
+    private Result parseCandidates(JsonParser p) throws IOException {
+        PathBuffer current = new PathBuffer();
+        PathBuffer best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        int bestDuration = 0;
+
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int distance = Integer.MAX_VALUE;
+            int duration = 0;
+            boolean summaryRead = false;
+            current.clear();
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("summary".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                    long[] summary = parseSummary(p);
+                    distance = (int) summary[0];
+                    duration = (int) summary[1];
+                    summaryRead = true;
+                } else if ("path".equals(field) && p.currentToken() == JsonToken.START_ARRAY) {
+                    if (summaryRead && distance >= bestDistance) {
+                        p.skipChildren();
+                    } else {
+                        parsePath(p, current);
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestDuration = duration;
+                // 버퍼를 맞바꿔 재사용 (후보마다 새 배열을 만들지 않음)
+                PathBuffer tmp = best == null ? new PathBuffer() : best;
+                best = current;
+                current = tmp;
+            }
+        }
+
+        if (best == null) {
+            return null;
+        }
+        return new Result(bestDistance, bestDuration, best.coords, best.size / 2);
+    }
+
+    // [distance, duration]
+    private long[] parseSummary(JsonParser p) throws IOException {
+        long distance = Integer.MAX_VALUE;
+        long duration = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("distance".equals(field) && value.isNumeric()) {
+                distance = p.getLongValue();
+            } else if ("duration".equals(field) && value.isNumeric()) {
+                duration = p.getLongValue();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new long[]{distance, duration};
+    }
+
+    // [[lng, lat], [lng, lat], ...]
+    private void parsePath(JsonParser p, PathBuffer buffer) throws IOException {
+        while (p.nextToken() == JsonToken.START_ARRAY) {
+            p.nextToken();
+            double lng = p.getDoubleValue();
+            p.nextToken();
+            double lat = p.getDoubleValue();
+            buffer.add(lng, lat);
+            // 혹시 남은 원소가 있으면 배열 끝까지 건너뜀
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private static final class PathBuffer {
+        private double[] coords = new double[256];
+        private int size;
+
+        void add(double lng, double lat) {
+            if (size + 2 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+            coords[size++] = lng;
+            coords[size++] = lat;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
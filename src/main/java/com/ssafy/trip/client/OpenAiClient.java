@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,9 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class OpenAiClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final UpstreamMetrics upstreamMetrics;
 
     @Value("${openai.api-key}")
     private String apiKey;   // ✅ GMS KEY 넣어야 함
@@ -27,8 +29,12 @@ public class OpenAiClient {
     @Value("${openai.base-url:https://gms.ssafy.io/gmsapi/api.openai.com/v1}")
     private String baseUrl;
 
-    public OpenAiClient(ObjectMapper objectMapper) {
+    public OpenAiClient(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                        ObjectMapper objectMapper,
+                        UpstreamMetrics upstreamMetrics) {
+        this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.upstreamMetrics = upstreamMetrics;
     }
 
     /**
@@ -65,12 +71,13 @@ public class OpenAiClient {
 
             HttpEntity<String> entity = new HttpEntity<>(bodyString, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = upstreamMetrics.record("openai", "chat.completions", () ->
+                    restTemplate.exchange(
+                            url,
+                            HttpMethod.POST,
+                            entity,
+                            String.class
+                    ));
 
             log.info("GMS/OpenAI 응답 status: {}", response.getStatusCode());
             log.info("GMS/OpenAI 응답 body: {}", response.getBody());
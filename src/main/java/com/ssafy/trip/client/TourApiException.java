@@ -0,0 +1,30 @@
+package com.ssafy.trip.client;
+
+import java.io.IOException;
+
+/**
+ * Tour API 가 resultCode 로 알린 오류 (인증키 / 파라미터 / 호출 한도 등)
+ *  - 응답 파싱 중에 던져지므로 RestTemplate 이 ResourceAccessException 으로 감싸지만
+ *    UpstreamMetrics 는 감싼 원인을 보고 네트워크 오류가 아닌 업스트림 오류로 분류
+ */
+public class TourApiException extends IOException {
+
+    /** LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR */
+    private static final String RATE_LIMITED = "22";
+
+    private final String resultCode;
+
+    public TourApiException(String resultCode, String message) {
+        super(message);
+        this.resultCode = resultCode;
+    }
+
+    /** 응답에 resultCode 가 없으면 null */
+    public String getResultCode() {
+        return resultCode;
+    }
+
+    public boolean isRateLimited() {
+        return RATE_LIMITED.equals(resultCode);
+    }
+}
@@ -0,0 +1,241 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ssafy.trip.domain.Attraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tour API 관광지 목록 응답 스트리밍 파서
+ *  - JsonNode 트리 / 항목별 Map 을 만들지 않고 HTTP 입력 스트림에서 바로 Attraction 으로 변환
+ *  - 항목은 재사용하는 슬롯에 먼저 읽고, 좌표(mapx, mapy)가 있는 것만 Attraction 으로 만듦
+ *  - 숫자 필드는 문자열("126.98")로 오는 경우가 많아 토큰 종류와 관계없이 숫자로 읽음
+ *  - 필요 없는 필드는 문자열로 만들지 않고 건너뜀
+ *
+ * 응답 형태: {"response":{"header":{"resultCode":"0000",..},"body":{"items":{"item":[{..}, ..]},"totalCount":..}}}
+ *  결과가 없으면 items 가 "" 로, 한 건이면 item 이 배열이 아닌 객체로 올 수 있음
+ *  오류 응답(인증키 / 파라미터 / 호출 한도)은 body 없이 resultCode 만 오므로
+ *  resultCode 가 0000 이 아니거나 없으면 TourApiException → 빈 페이지(totalCount=0)로 오인하지 않음
+ */
+public class TourApiParser {
+
+    private final JsonFactory jsonFactory;
+
+    public TourApiParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * @param items 좌표가 있는 관광지만
+     */
+    public record Result(int totalCount, List<Attraction> items) {}
+
+    private static final String RESULT_OK = "0000";
+
+    // header.resultCode / resultMsg (오류 형식에 따라 최상위에 오기도 함)
+    private static final class Header {
+        String resultCode;
+        String resultMsg;
+    }
+
+    public Result parse(InputStream in) throws IOException {
+        try (JsonParser p = jsonFactory.createParser(in)) {
+            JsonToken first = p.nextToken();
+            if (first == null) {
+                throw new IOException("Tour API 응답이 비어 있습니다.");
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new IOException("Tour API: JSON 객체가 아닙니다.");
+            }
+
+            Header header = new Header();
+            Result result = new Result(0, List.of());
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("response".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                    result = parseResponse(p, header);
+                } else if (p.currentToken().isStructStart()) {
+                    p.skipChildren();
+                } else {
+                    readHeaderField(p, field, header);
+                }
+            }
+
+            if (header.resultCode == null) {
+                throw new TourApiException(null, "Tour API 응답에 resultCode 가 없습니다.");
+            }
+            if (!RESULT_OK.equals(header.resultCode)) {
+                throw new TourApiException(header.resultCode,
+                        "Tour API 오류 resultCode=" + header.resultCode + ", resultMsg=" + header.resultMsg);
+            }
+            return result;
+        }
+    }
+
+    private Result parseResponse(JsonParser p, Header header) throws IOException {
+        Result result = new Result(0, List.of());
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("header".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    p.nextToken();
+                    if (p.currentToken().isStructStart()) {
+                        p.skipChildren();
+                    } else {
+                        readHeaderField(p, name, header);
+                    }
+                }
+            } else if ("body".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                result = parseBody(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private static void readHeaderField(JsonParser p, String field, Header header) throws IOException {
+        if ("resultCode".equals(field)) {
+            header.resultCode = p.getValueAsString();
+        } else if ("resultMsg".equals(field)) {
+            header.resultMsg = p.getValueAsString();
+        }
+    }
+
+    private Result parseBody(JsonParser p) throws IOException {
+        int totalCount = 0;
+        List<Attraction> items = new ArrayList<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("items".equals(field) && p.currentToken() == JsonToken.START_OBJECT) {
+                parseItems(p, items);
+            } else if ("totalCount".equals(field)) {
+                totalCount = p.getValueAsInt(0);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new Result(totalCount, items);
+    }
+
+    // "items": {"item": [...] | {...}}
+    private void parseItems(JsonParser p, List<Attraction> out) throws IOException {
+        ItemSlot slot = new ItemSlot();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (!"item".equals(field)) {
+                p.skipChildren();
+            } else if (value == JsonToken.START_ARRAY) {
+                // 객체가 아닌 원소(null 등)는 건너뛰고 배열 끝까지
+                JsonToken element;
+                while ((element = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element == null) {
+                        throw new IOException("Tour API: item 배열이 끝나지 않았습니다.");
+                    }
+                    if (element == JsonToken.START_OBJECT) {
+                        parseItem(p, slot, out);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else if (value == JsonToken.START_OBJECT) {
+                parseItem(p, slot, out);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private void parseItem(JsonParser p, ItemSlot slot, List<Attraction> out) throws IOException {
+        slot.clear();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (value.isStructStart()) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "contentid" -> slot.contentId = p.getValueAsLong(0);
+                case "mapy" -> slot.lat = p.getValueAsDouble(0);
+                case "mapx" -> slot.lng = p.getValueAsDouble(0);
+                case "title" -> slot.title = p.getValueAsString("무제");
+                case "addr1" -> slot.addr1 = p.getValueAsString("");
+                case "addr2" -> slot.addr2 = p.getValueAsString("");
+                case "sido" -> slot.sido = p.getValueAsString("");
+                case "gugun" -> slot.gugun = p.getValueAsString("");
+                case "firstimage" -> slot.imageUrl = p.getValueAsString("");
+                case "tel" -> slot.tel = p.getValueAsString("");
+                case "contenttypeid" -> {
+                    if (value != JsonToken.VALUE_NULL) {
+                        slot.contentTypeId = p.getValueAsInt(0);
+                    }
+                }
+                default -> {
+                    // 필요 없는 필드 (값을 문자열로 만들지 않음)
+                }
+            }
+        }
+        // 좌표 없는 건 스킵
+        if (slot.lat != 0 && slot.lng != 0) {
+            out.add(slot.toAttraction());
+        }
+    }
+
+    /**
+     * 항목 하나를 읽는 동안 값을 담아 두는 슬롯 (페이지 안에서 재사용)
+     */
+    private static final class ItemSlot {
+        long contentId;
+        double lat;
+        double lng;
+        String title;
+        String addr1;
+        String addr2;
+        String sido;
+        String gugun;
+        Integer contentTypeId;
+        String imageUrl;
+        String tel;
+
+        void clear() {
+            contentId = 0;
+            lat = 0;
+            lng = 0;
+            title = "무제";
+            addr1 = "";
+            addr2 = "";
+            sido = "";
+            gugun = "";
+            contentTypeId = null;
+            imageUrl = "";
+            tel = "";
+        }
+
+        Attraction toAttraction() {
+            Attraction a = new Attraction();
+            a.setContentId(contentId);
+            a.setTitle(title);
+            a.setAddr1(addr1);
+            a.setAddr2(addr2);
+            a.setSido(sido);
+            a.setGugun(gugun);
+            a.setLatitude(lat);
+            a.setLongitude(lng);
+            a.setContentTypeId(contentTypeId);
+            a.setImageUrl(imageUrl);
+            a.setTel(tel);
+            return a;
+        }
+    }
+}
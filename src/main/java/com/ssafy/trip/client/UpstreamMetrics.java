@@ -0,0 +1,90 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.InterruptedIOException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출 지표
+ *  - upstream.requests (Timer, 히스토그램 포함): upstream / endpoint / outcome 별 지연 시간 + 호출 수
+ *  - upstream.rejections (Counter): 호출 전에 거절된 수 (서킷 OPEN, 동시 호출 한도 초과 등)
+ *
+ * outcome: success | client_error | rate_limited | server_error | timeout | io_error | error
+ *  - 응답 파싱 중 예외는 RestTemplate 이 ResourceAccessException 으로 감싸므로 원인을 먼저 확인
+ *    (Tour API resultCode 오류 → rate_limited / error, 잘못된 JSON → error)
+ */
+@Component
+public class UpstreamMetrics {
+
+    private final MeterRegistry registry;
+
+    public UpstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * call 수행 시간을 결과별로 기록 (예외는 그대로 전달)
+     */
+    public <T> T record(String upstream, String endpoint, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(timer(upstream, endpoint, outcome));
+        }
+    }
+
+    public void rejected(String upstream, String reason) {
+        Counter.builder("upstream.rejections")
+                .tag("upstream", upstream)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    static String outcome(Throwable e) {
+        if (e instanceof HttpClientErrorException.TooManyRequests) {
+            return "rate_limited";
+        }
+        if (e instanceof HttpClientErrorException) {
+            return "client_error";
+        }
+        if (e instanceof HttpServerErrorException) {
+            return "server_error";
+        }
+        Throwable cause = e instanceof ResourceAccessException ? e.getCause() : e;
+        if (cause instanceof TourApiException apiError) {
+            return apiError.isRateLimited() ? "rate_limited" : "error";
+        }
+        if (cause instanceof JsonProcessingException) {
+            return "error";
+        }
+        if (e instanceof ResourceAccessException) {
+            // 연결 / 응답 / 풀 대기 타임아웃 모두 InterruptedIOException 계열
+            return e.getCause() instanceof InterruptedIOException ? "timeout" : "io_error";
+        }
+        return "error";
+    }
+
+    // 같은 태그 조합이면 레지스트리가 기존 Timer 를 돌려줌
+    private Timer timer(String upstream, String endpoint, String outcome) {
+        return Timer.builder("upstream.requests")
+                .tag("upstream", upstream)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.trip.client;
+
+/**
+ * 외부 API 를 지금 쓸 수 없음 (서킷 OPEN, 동시 호출 한도 초과, 타임아웃, 5xx)
+ *  - 호출 측에서 근사 결과 등으로 대체할 수 있는 오류
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
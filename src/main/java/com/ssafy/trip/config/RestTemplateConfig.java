@@ -1,14 +1,123 @@
 package com.ssafy.trip.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 외부 API 별 RestTemplate (Apache HttpClient 5 연결 풀)
+ *  - 업스트림마다 풀 / 타임아웃을 따로 두어 한 곳이 느려져도 다른 곳의 연결을 잡아먹지 않음
+ *  - keep-alive 로 연결 재사용 (요청마다 TCP / TLS 핸드셰이크 없음), 유휴 연결은 주기적으로 정리
+ *  - gzip / deflate 응답은 HttpClient 가 자동으로 요청 / 해제
+ *  - 지표: httpcomponents.httpclient.pool.*{httpclient=naver|tour|openai}
+ *
+ * 설정: http.client.{naver|tour|openai}.{connect-timeout-ms, read-timeout-ms, max-connections}
+ */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
+    private final MeterRegistry meterRegistry;
+
+    @Value("${http.client.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${http.client.connection-ttl-seconds:300}")
+    private long connectionTtlSeconds;
+
+    private final List<CloseableHttpClient> clients = new CopyOnWriteArrayList<>();
+
+    // 네이버 길찾기 (응답이 느려지면 스레드가 쌓이지 않도록 짧은 타임아웃)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate naverRestTemplate(
+            @Value("${http.client.naver.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${http.client.naver.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${http.client.naver.max-connections:32}") int maxConnections
+    ) {
+        return pooledRestTemplate("naver", connectTimeoutMs, readTimeoutMs, maxConnections);
+    }
+
+    // 한국관광공사 TourAPI (페이지 크기가 커서 응답이 느림)
+    @Bean
+    public RestTemplate tourRestTemplate(
+            @Value("${http.client.tour.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.tour.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${http.client.tour.max-connections:8}") int maxConnections
+    ) {
+        return pooledRestTemplate("tour", connectTimeoutMs, readTimeoutMs, maxConnections);
+    }
+
+    // GMS / OpenAI (모델 생성 시간이 길어 읽기 타임아웃을 넉넉하게)
+    @Bean
+    public RestTemplate openAiRestTemplate(
+            @Value("${http.client.openai.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.openai.read-timeout-ms:60000}") long readTimeoutMs,
+            @Value("${http.client.openai.max-connections:8}") int maxConnections
+    ) {
+        return pooledRestTemplate("openai", connectTimeoutMs, readTimeoutMs, maxConnections);
+    }
+
+    @PreDestroy
+    public void closeClients() {
+        for (CloseableHttpClient client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("HTTP 클라이언트 종료 실패", e);
+            }
+        }
+    }
+
+    private RestTemplate pooledRestTemplate(String name, long connectTimeoutMs, long readTimeoutMs, int maxConnections) {
+        // 업스트림마다 호스트가 하나라 route 당 한도 = 전체 한도
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(connectionTtlSeconds))
+                        // 오래 쉰 연결은 재사용 전에 끊겼는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(idleEvictSeconds))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                // 풀에 빈 연결이 없을 때 기다리는 최대 시간
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+        clients.add(client);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(client));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.ssafy.trip.config;
+
+import com.ssafy.trip.client.NaverDirectionClient;
+import com.ssafy.trip.repository.TravelTimePairRepository;
+import com.ssafy.trip.service.routing.CostMatrixProvider;
+import com.ssafy.trip.service.routing.DayPartitioner;
+import com.ssafy.trip.service.routing.DpBufferPool;
+import com.ssafy.trip.service.routing.GeoDistanceCalculator;
+import com.ssafy.trip.service.routing.HaversineCostMatrixProvider;
+import com.ssafy.trip.service.routing.HeldKarpTspSolver;
+import com.ssafy.trip.service.routing.LocalSearchTspSolver;
+import com.ssafy.trip.service.routing.TravelTimeCostMatrixProvider;
+import com.ssafy.trip.service.routing.TspOptimizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RoutingConfig {
+
+    /** 직선 거리 계산 (haversine | equirectangular) */
+    @Bean
+    public GeoDistanceCalculator geoDistanceCalculator(
+            @Value("${routing.distance.mode:haversine}") String mode
+    ) {
+        return new GeoDistanceCalculator(GeoDistanceCalculator.Mode.valueOf(mode.toUpperCase()));
+    }
+
+    /**
+     * TSP 비용 행렬 (haversine | travel-time)
+     *  - travel-time: DB 에 쌓인 쌍별 자동차 이동 시간, 없는 쌍은 추정 후 백그라운드로 채움
+     */
+    @Bean
+    public CostMatrixProvider costMatrixProvider(
+            GeoDistanceCalculator geoDistanceCalculator,
+            TravelTimePairRepository travelTimePairRepository,
+            NaverDirectionClient naverDirectionClient,
+            @Value("${routing.tsp.cost-mode:haversine}") String costMode,
+            @Value("${routing.tsp.travel-time.road-factor:1.3}") double roadFactor,
+            @Value("${routing.tsp.travel-time.estimate-speed-kmh:40}") double estimateSpeedKmh,
+            @Value("${routing.tsp.travel-time.max-fetch-per-request:10}") int maxFetchPerRequest,
+            @Value("${routing.tsp.travel-time.fetch-concurrency:2}") int fetchConcurrency,
+            @Value("${routing.tsp.travel-time.fetch-queue-capacity:256}") int fetchQueueCapacity
+    ) {
+        return switch (costMode.toLowerCase()) {
+            case HaversineCostMatrixProvider.NAME ->
+                    new HaversineCostMatrixProvider(geoDistanceCalculator, roadFactor, estimateSpeedKmh);
+            case TravelTimeCostMatrixProvider.NAME -> new TravelTimeCostMatrixProvider(
+                    geoDistanceCalculator,
+                    travelTimePairRepository,
+                    naverDirectionClient,
+                    roadFactor,
+                    estimateSpeedKmh,
+                    maxFetchPerRequest,
+                    fetchConcurrency,
+                    fetchQueueCapacity
+            );
+            default -> throw new IllegalArgumentException("지원하지 않는 routing.tsp.cost-mode 입니다: " + costMode);
+        };
+    }
+
+    /** Held-Karp DP 테이블 풀 (사용 중 + 보관 중 버퍼 합계가 예산을 넘으면 정확해 계산 거절) */
+    @Bean
+    public DpBufferPool dpBufferPool(
+            @Value("${routing.tsp.exact-memory-budget-mb:256}") long memoryBudgetMb,
+            @Value("${routing.tsp.exact-pooled-buffers:2}") int pooledBuffers
+    ) {
+        return new DpBufferPool(memoryBudgetMb * 1024 * 1024, pooledBuffers);
+    }
+
+    @Bean
+    public TspOptimizer tspOptimizer(
+            DpBufferPool dpBufferPool,
+            @Value("${routing.tsp.exact-max-points:12}") int exactMaxPoints,
+            @Value("${routing.tsp.parallel.enabled:false}") boolean parallelEnabled,
+            @Value("${routing.tsp.parallel.max-parallelism:4}") int maxParallelism,
+            @Value("${routing.tsp.parallel.min-points:15}") int parallelMinPoints,
+            @Value("${routing.tsp.time-budget-ms:200}") long timeBudgetMs,
+            @Value("${routing.tsp.max-time-budget-ms:2000}") long maxTimeBudgetMs
+    ) {
+        return new TspOptimizer(
+                // 병렬 모드는 opt-in, 요청당 commonPool 사용량은 max-parallelism 으로 제한
+                new HeldKarpTspSolver(dpBufferPool, parallelEnabled ? maxParallelism : 1, parallelMinPoints),
+                new LocalSearchTspSolver(),
+                exactMaxPoints,
+                timeBudgetMs,
+                maxTimeBudgetMs
+        );
+    }
+
+    /** 루트 장소를 여러 날짜로 나누고 날짜별 순서 결정 */
+    @Bean
+    public DayPartitioner dayPartitioner(TspOptimizer tspOptimizer) {
+        return new DayPartitioner(tspOptimizer);
+    }
+}
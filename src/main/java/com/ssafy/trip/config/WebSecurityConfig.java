@@ -1,6 +1,7 @@
 package com.ssafy.trip.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -25,6 +27,13 @@ public class WebSecurityConfig {
 
     private final TokenProvider tokenProvider;
 
+    // 지정하면 actuator 가 이 포트로 따로 뜸 (외부에 열지 않는 관리용 포트)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -33,6 +42,11 @@ public class WebSecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
+        // Prometheus 수집은 관리 포트로 들어온 요청만 인증 없이 허용, 서비스 포트에서는 관리자만
+        RequestMatcher managementPortScrape = request -> managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -40,13 +54,18 @@ public class WebSecurityConfig {
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 관광지 동기화 / 스냅샷 가져오기·내보내기 등 관리 기능은 관리자만
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(managementPortScrape).permitAll()
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
                         .requestMatchers(
                                 "/", "/index", "/login", "/signup",
                                 "/css/**", "/js/**", "/images/**",
                                 "/api/auth/**", "/api/tour/**", "/error",
-                                "/path", "/pathtest", "/api/routing/**", "/api/admin/**",
+                                "/path", "/pathtest", "/api/routing/**",
                                 "/api/routes/public/**", "/api/routes/*/like",
-                                "/api/routes/ai"
+                                "/api/routes/ai",
+                                "/actuator/health/**"
                         ).permitAll()
                         .anyRequest().authenticated()
                 );
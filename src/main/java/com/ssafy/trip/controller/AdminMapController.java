@@ -1,22 +1,88 @@
 package com.ssafy.trip.controller;
 
+import com.ssafy.trip.dto.AttractionSnapshotResponse;
+import com.ssafy.trip.dto.TourSyncJobResponse;
+import com.ssafy.trip.service.AttractionSnapshotService;
 import com.ssafy.trip.service.TourDataService;
+import com.ssafy.trip.service.TourSyncJobService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/admin/tour")
 @RequiredArgsConstructor
 public class AdminMapController {
 
-    private final TourDataService tourDataSyncService;
+    private final TourSyncJobService tourSyncJobService;
+    private final AttractionSnapshotService attractionSnapshotService;
 
+    /**
+     * 관광지 동기화를 백그라운드로 시작 (202 + 작업 정보, 진행 상황은 GET /sync/{jobId})
+     * mode=full  : 전체 목록
+     * mode=delta : 마지막으로 성공한 동기화 이후 수정된 관광지만
+     * 다른 노드 / 작업이 이미 동기화 중이면 409
+     */
     @PostMapping("/sync")
-    public ResponseEntity<String> sync() {
-        tourDataSyncService.syncAllAttractions();
-        return ResponseEntity.ok("관광지 동기화 완료");
+    public ResponseEntity<TourSyncJobResponse> sync(@RequestParam(defaultValue = "full") String mode) {
+        TourDataService.SyncMode syncMode;
+        if ("delta".equalsIgnoreCase(mode)) {
+            syncMode = TourDataService.SyncMode.DELTA;
+        } else if ("full".equalsIgnoreCase(mode)) {
+            syncMode = TourDataService.SyncMode.FULL;
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 mode 입니다: " + mode);
+        }
+
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(TourSyncJobResponse.from(tourSyncJobService.submit(syncMode)));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    /** 이 노드에서 실행한 최근 작업 */
+    @GetMapping("/sync")
+    public List<TourSyncJobResponse> jobs() {
+        return tourSyncJobService.recent().stream()
+                .map(TourSyncJobResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/sync/{jobId}")
+    public TourSyncJobResponse job(@PathVariable String jobId) {
+        return tourSyncJobService.find(jobId)
+                .map(TourSyncJobResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다."));
+    }
+
+    /** 실행 중인 작업 중단 (저장이 끝난 페이지까지 유지, 같은 mode 로 다시 시작하면 이어서 수행) */
+    @DeleteMapping("/sync/{jobId}")
+    public ResponseEntity<Void> cancel(@PathVariable String jobId) {
+        if (!tourSyncJobService.cancel(jobId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "실행 중인 작업이 없습니다.");
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 스냅샷 파일(tour.snapshot.dir 아래)에서 관광지 가져오기 (content_id 기준 upsert)
+     * file 확장자: .ndjson / .jsonl / .csv, 뒤에 .gz 면 gzip
+     */
+    @PostMapping("/snapshot/import")
+    public AttractionSnapshotResponse importSnapshot(@RequestParam String file) throws IOException {
+        return attractionSnapshotService.importSnapshot(file);
+    }
+
+    /** 현재 관광지 전체를 스냅샷 파일로 내보내기 (같은 이름이 있으면 교체) */
+    @PostMapping("/snapshot/export")
+    public AttractionSnapshotResponse exportSnapshot(@RequestParam String file) throws IOException {
+        return attractionSnapshotService.exportSnapshot(file);
     }
-}
\ No newline at end of file
+}
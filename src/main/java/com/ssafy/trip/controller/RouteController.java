@@ -76,6 +76,16 @@ public class RouteController {
         return ResponseEntity.ok(updated);
     }
 
+    // 🔹 장소를 날짜별로 자동 배정 (하루 장소 수 / 이동 시간 제한)
+    @PostMapping("/{id}/optimize-days")
+    public ResponseEntity<List<DaysDto>> optimizeDays(@PathVariable Long id,
+                                                      @RequestBody @Valid DayOptimizeRequest request,
+                                                      Authentication authentication) {
+        String email = authentication.getName();
+        List<DaysDto> days = routeService.optimizeDays(email, id, request);
+        return ResponseEntity.ok(days);
+    }
+
     // 🔹 공개 여부 수정
     @PatchMapping("/{id}/visibility")
     public ResponseEntity<Route> updateVisibility(@PathVariable Long id,
@@ -1,22 +1,53 @@
 package com.ssafy.trip.controller;
 
+import com.ssafy.trip.dto.RouteDaysRoutingResponse;
 import com.ssafy.trip.dto.RoutingRequest;
 import com.ssafy.trip.dto.RoutingResponse;
+import com.ssafy.trip.service.RouteService;
 import com.ssafy.trip.service.RoutingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/routing")
 public class RoutingController {
 
     private final RoutingService routingService;
+    private final RouteService routeService;
 
+    // 서블릿 스레드는 바로 반환되고, 길찾기는 routing-async 풀에서 수행 후 응답
     @PostMapping
-    public ResponseEntity<RoutingResponse> getRoute(@RequestBody RoutingRequest request) {
-        RoutingResponse response = routingService.getRoute(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<RoutingResponse>> getRoute(@RequestBody RoutingRequest request) {
+        return routingService.getRouteAsync(request).thenApply(ResponseEntity::ok);
+    }
+
+    // 루트 전체(모든 날짜) 길찾기를 한 번에, 날짜별로 동시에 계산
+    @GetMapping("/routes/{routeId}/days")
+    public CompletableFuture<ResponseEntity<RouteDaysRoutingResponse>> getRouteDays(
+            @PathVariable Long routeId,
+            @RequestParam(required = false) String encoding,
+            @RequestParam(required = false) Integer zoom,
+            @RequestParam(required = false) Double simplifyToleranceMeters,
+            @RequestParam(required = false) Long tspTimeBudgetMs,
+            Authentication authentication
+    ) {
+        String email = null;
+        if (authentication != null) email = authentication.getName();
+        Map<Integer, List<RoutingRequest.Point>> dayPoints = routeService.getDayPoints(email, routeId);
+
+        RoutingRequest options = new RoutingRequest();
+        options.setEncoding(encoding);
+        options.setZoom(zoom);
+        options.setSimplifyToleranceMeters(simplifyToleranceMeters);
+        options.setTspTimeBudgetMs(tspTimeBudgetMs);
+
+        return routingService.getRouteDaysAsync(routeId, dayPoints, options).thenApply(ResponseEntity::ok);
     }
 }
@@ -0,0 +1,41 @@
+package com.ssafy.trip.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 Route 의 일자별 경로(미리 계산)
+ *  - geometry: RouteGeometryCodec 바이너리 (일자별 거리/시간 + 좌표 delta varint)
+ *  - version : 계산 당시 RoutePlan 목록의 해시, 현재 목록과 다르면 사용하지 않음
+ */
+@Entity
+@Table(name = "route_geometry")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class RouteGeometry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "route_id", nullable = false, unique = true)
+    private Long routeId;
+
+    @Column(nullable = false, length = 64)
+    private String version;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] geometry;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,61 @@
+package com.ssafy.trip.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tour API 동기화 진행 상태 (동기화 종류별 한 행)
+ *  - watermark: 마지막으로 끝까지 성공한 실행의 시작일 (yyyyMMdd), 변경분 동기화는 이 날짜부터 오늘까지 하루씩 요청
+ *  - run*: 진행 중(또는 중단된) 실행 정보, runFrom 날짜의 nextPage 앞쪽 페이지는 모두 저장 완료
+ *          → 재실행 시 여기서부터 이어서
+ */
+@Entity
+@Table(name = "tour_sync_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class TourSyncCheckpoint {
+
+    public enum Status {
+        RUNNING,
+        FAILED,
+        COMPLETED
+    }
+
+    @Id
+    @Column(length = 64)
+    private String syncName;
+
+    @Column(length = 8)
+    private String watermark;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Status status;
+
+    // FULL | DELTA
+    @Column(length = 16)
+    private String runMode;
+
+    // 변경분 동기화에서 지금 조회 중인 수정일 (FULL 이면 null)
+    @Column(length = 8)
+    private String runFrom;
+
+    // 이 실행이 성공하면 watermark 가 될 값
+    @Column(length = 8)
+    private String runStartedDate;
+
+    private Integer nextPage;
+
+    private Integer totalPages;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.ssafy.trip.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 두 지점 간 자동차 이동 시간 캐시 (TSP 비용 행렬용)
+ *  - pairKey: 양자화한 두 좌표를 정렬해 이어 붙인 값 → (A, B) 와 (B, A) 가 같은 행
+ */
+@Entity
+@Table(name = "travel_time_pair")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class TravelTimePair {
+
+    @Id
+    @Column(length = 64)
+    private String pairKey;
+
+    @Column(nullable = false)
+    private Integer durationSeconds;
+
+    @Column(nullable = false)
+    private Integer distanceMeters;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
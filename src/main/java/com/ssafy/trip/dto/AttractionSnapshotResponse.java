@@ -0,0 +1,18 @@
+package com.ssafy.trip.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AttractionSnapshotResponse {
+
+    private String file;
+    private String format;      // NDJSON | CSV
+    private boolean gzip;
+
+    private long rows;          // 저장 / 내보낸 행 수
+    private long skipped;       // 가져오기: 형식이 잘못됐거나 필수 값이 없어 건너뛴 레코드
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
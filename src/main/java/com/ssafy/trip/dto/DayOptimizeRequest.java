@@ -0,0 +1,27 @@
+package com.ssafy.trip.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 루트 장소 일자 자동 배정 요청
+ *  - 제한을 비워 두면 해당 조건은 보지 않음
+ *  - 루트에 totalDays 가 있으면 그 일수 안에서 가장 긴 날이 최소가 되도록 배정
+ *    (maxStopsPerDay 를 비우면 하루 ceil(장소 수 / totalDays) 곳까지)
+ */
+@Getter
+@Setter
+public class DayOptimizeRequest {
+
+    // 하루 최대 장소 수
+    @Min(value = 1)
+    private Integer maxStopsPerDay;
+
+    // 하루 최대 이동 시간(분), 장소 사이 이동만 (체류 시간 제외)
+    @Min(value = 1)
+    private Integer maxTravelMinutesPerDay;
+
+    // TSP 시간 예산(ms), 비우면 서버 기본값
+    private Long tspTimeBudgetMs;
+}
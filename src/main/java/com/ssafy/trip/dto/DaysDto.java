@@ -1,5 +1,6 @@
 package com.ssafy.trip.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,6 +12,14 @@ public class DaysDto {
     private int dayIndex;           // Day 1, Day 2 할 때 그 숫자
     private List<PlansDto> plans; // 해당 날짜의 계획들
 
+    // 미리 계산된 경로 (아직 없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceMeters;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer durationSeconds;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedPolyline; // Google Encoded Polyline
+
     public static DaysDto from(int dayIndex, List<PlansDto> plans) {
         return DaysDto.builder()
                 .dayIndex(dayIndex)
@@ -0,0 +1,198 @@
+package com.ssafy.trip.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 경로 좌표열 (double 배열 하나에 lng, lat 순으로 교차 저장)
+ *  - 좌표마다 객체를 만들지 않아 좌표당 16바이트 (LatLng 객체 + 리스트 참조 대비 1/3 이하)
+ *  - JSON 은 기존과 같은 [{"lat":..,"lng":..}, ...] 형태로 배열에서 바로 쓰고 읽음
+ *  - 만든 뒤에는 변경하지 않음 (캐시에서 공유)
+ */
+@JsonSerialize(using = GeoPath.Serializer.class)
+@JsonDeserialize(using = GeoPath.Deserializer.class)
+public final class GeoPath {
+
+    public static final GeoPath EMPTY = new GeoPath(new double[0], 0);
+
+    // [lng0, lat0, lng1, lat1, ...], 길이는 size * 2 이상
+    private final double[] lngLat;
+    private final int size;
+
+    private GeoPath(double[] lngLat, int size) {
+        this.lngLat = lngLat;
+        this.size = size;
+    }
+
+    /**
+     * 배열을 복사하지 않고 감쌈 (호출 측은 이후 배열을 수정하지 말 것)
+     */
+    public static GeoPath wrapLngLat(double[] lngLat, int pointCount) {
+        if (lngLat.length < pointCount * 2) {
+            throw new IllegalArgumentException("좌표 배열 길이가 부족합니다.");
+        }
+        return pointCount == 0 ? EMPTY : new GeoPath(lngLat, pointCount);
+    }
+
+    public static Builder builder(int expectedPoints) {
+        return new Builder(expectedPoints);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double lat(int i) {
+        return lngLat[2 * i + 1];
+    }
+
+    public double lng(int i) {
+        return lngLat[2 * i];
+    }
+
+    /** keep[i] 가 true 인 좌표만 남긴 경로 */
+    public GeoPath select(boolean[] keep) {
+        Builder b = new Builder(size);
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                b.add(lat(i), lng(i));
+            }
+        }
+        return b.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GeoPath other) || size != other.size) return false;
+        return Arrays.equals(lngLat, 0, size * 2, other.lngLat, 0, size * 2);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size * 2; i++) {
+            h = 31 * h + Double.hashCode(lngLat[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "GeoPath(size=" + size + ")";
+    }
+
+    public static final class Builder {
+        private double[] lngLat;
+        private int size;
+
+        private Builder(int expectedPoints) {
+            lngLat = new double[Math.max(2, expectedPoints * 2)];
+        }
+
+        public Builder add(double lat, double lng) {
+            if (size * 2 + 2 > lngLat.length) {
+                lngLat = Arrays.copyOf(lngLat, lngLat.length * 2);
+            }
+            lngLat[size * 2] = lng;
+            lngLat[size * 2 + 1] = lat;
+            size++;
+            return this;
+        }
+
+        /** path 의 from 번째 좌표부터 끝까지 이어 붙임 */
+        public Builder addAll(GeoPath path, int from) {
+            int count = path.size - from;
+            if (count <= 0) {
+                return this;
+            }
+            int need = (size + count) * 2;
+            if (need > lngLat.length) {
+                lngLat = Arrays.copyOf(lngLat, Math.max(need, lngLat.length * 2));
+            }
+            System.arraycopy(path.lngLat, from * 2, lngLat, size * 2, count * 2);
+            size += count;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public double lastLat() {
+            return lngLat[size * 2 - 1];
+        }
+
+        public double lastLng() {
+            return lngLat[size * 2 - 2];
+        }
+
+        public GeoPath build() {
+            return size == 0 ? EMPTY : new GeoPath(lngLat, size);
+        }
+    }
+
+    public static final class Serializer extends JsonSerializer<GeoPath> {
+
+        private static final SerializableString LAT = new SerializedString("lat");
+        private static final SerializableString LNG = new SerializedString("lng");
+
+        @Override
+        public void serialize(GeoPath path, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartArray(path, path.size);
+            for (int i = 0; i < path.size; i++) {
+                gen.writeStartObject();
+                gen.writeFieldName(LAT);
+                gen.writeNumber(path.lat(i));
+                gen.writeFieldName(LNG);
+                gen.writeNumber(path.lng(i));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public static final class Deserializer extends JsonDeserializer<GeoPath> {
+
+        @Override
+        public GeoPath deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return (GeoPath) ctxt.handleUnexpectedToken(GeoPath.class, p);
+            }
+            Builder b = new Builder(64);
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                double lat = 0;
+                double lng = 0;
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    if ("lat".equals(field)) {
+                        lat = p.getDoubleValue();
+                    } else if ("lng".equals(field)) {
+                        lng = p.getDoubleValue();
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                b.add(lat, lng);
+            }
+            return b.build();
+        }
+    }
+}
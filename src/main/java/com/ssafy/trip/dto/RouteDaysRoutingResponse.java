@@ -0,0 +1,24 @@
+package com.ssafy.trip.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 루트 전체 일자별 길찾기 결과
+ */
+@Data
+public class RouteDaysRoutingResponse {
+    private Long routeId;
+    private List<Day> days; // dayIndex 오름차순
+
+    @Data
+    public static class Day {
+        private int dayIndex;
+        private int stopCount;          // 좌표가 있는 장소 수
+        private RoutingResponse route;  // 장소가 2개 미만이거나 실패한 날은 null
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String error;           // 그날 길찾기 실패 사유
+    }
+}
@@ -6,6 +6,14 @@ import java.util.List;
 @Data
 public class RoutingRequest {
     private List<Point> points; // 순서대로 (0: 출발, 마지막: 도착, 중간: 경유)
+    private Long tspTimeBudgetMs; // 휴리스틱 솔버 시간 예산 (없으면 서버 기본값)
+
+    // 경로 단순화 (둘 다 없으면 원본 그대로) - toleranceMeters 가 zoom 보다 우선
+    private Double simplifyToleranceMeters;
+    private Integer zoom;
+
+    // latlng(기본): polyline 좌표 배열 / polyline: encodedPolyline 문자열
+    private String encoding;
 
     @Data
     public static class Point {
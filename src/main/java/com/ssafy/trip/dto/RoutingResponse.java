@@ -1,16 +1,16 @@
 package com.ssafy.trip.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
-import java.util.List;
 
 @Data
 public class RoutingResponse {
     private double totalDistanceMeters;
     private int totalDurationSeconds;
-    private List<LatLng> polyline;
-    @Data
-    public static class LatLng {
-        private double lat;
-        private double lng;
-    }
+    private GeoPath polyline;       // JSON: [{"lat":..,"lng":..}, ...]
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedPolyline; // encoding=polyline 요청 시에만 (Google Encoded Polyline)
+    private String solver;          // 경유지 순서 최적화에 사용된 솔버
+    private double solverElapsedMs; // 솔버 수행 시간
+    private boolean approximate;    // true: 길찾기 API 를 쓸 수 없어 직선 경로 / 추정 시간으로 대체한 결과
 }
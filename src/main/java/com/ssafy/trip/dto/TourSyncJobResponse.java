@@ -0,0 +1,50 @@
+package com.ssafy.trip.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.trip.service.TourSyncJob;
+import com.ssafy.trip.service.TourSyncProgress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class TourSyncJobResponse {
+
+    private String jobId;
+    private String mode;            // FULL | DELTA
+    private String status;          // RUNNING | SUCCEEDED | FAILED | CANCELLED
+
+    private int totalPages;         // 이번 실행에서 가져올 페이지 수 (첫 페이지 조회 후 확정)
+    private int pagesDone;
+    private int failedPages;
+    private long rowsWritten;
+
+    private double pagesPerSecond;
+    private double rowsPerSecond;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+
+    public static TourSyncJobResponse from(TourSyncJob job) {
+        TourSyncProgress progress = job.progress();
+        double elapsed = job.elapsedSeconds();
+        return TourSyncJobResponse.builder()
+                .jobId(job.id())
+                .mode(job.mode().name())
+                .status(job.status().name())
+                .totalPages(progress.totalPages())
+                .pagesDone(progress.pagesDone())
+                .failedPages(progress.failedPages())
+                .rowsWritten(progress.rowsWritten())
+                .pagesPerSecond(elapsed > 0 ? progress.pagesDone() / elapsed : 0)
+                .rowsPerSecond(elapsed > 0 ? progress.rowsWritten() / elapsed : 0)
+                .startedAt(job.startedAt())
+                .finishedAt(job.finishedAt())
+                .error(job.error())
+                .build();
+    }
+}
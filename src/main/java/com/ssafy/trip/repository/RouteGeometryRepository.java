@@ -0,0 +1,20 @@
+package com.ssafy.trip.repository;
+
+import com.ssafy.trip.domain.RouteGeometry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface RouteGeometryRepository extends JpaRepository<RouteGeometry, Long> {
+    Optional<RouteGeometry> findByRouteId(Long routeId);
+
+    // 조회 후 삭제가 아닌 DELETE 한 번 → 트랜잭션 시작 뒤 다른 스레드가 저장한 행까지 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from RouteGeometry g where g.routeId = :routeId")
+    void deleteByRouteId(@Param("routeId") Long routeId);
+}
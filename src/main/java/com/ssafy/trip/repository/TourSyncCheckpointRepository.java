@@ -0,0 +1,7 @@
+package com.ssafy.trip.repository;
+
+import com.ssafy.trip.domain.TourSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TourSyncCheckpointRepository extends JpaRepository<TourSyncCheckpoint, String> {
+}
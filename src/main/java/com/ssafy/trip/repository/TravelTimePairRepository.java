@@ -0,0 +1,7 @@
+package com.ssafy.trip.repository;
+
+import com.ssafy.trip.domain.TravelTimePair;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TravelTimePairRepository extends JpaRepository<TravelTimePair, String> {
+}
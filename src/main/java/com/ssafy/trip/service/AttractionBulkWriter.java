@@ -0,0 +1,91 @@
+package com.ssafy.trip.service;
+
+import com.ssafy.trip.domain.Attraction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * attractions 대량 저장 (content_id 기준 upsert)
+ *  - JPA save 는 IDENTITY 키라 배치가 꺼지고 한 건씩 INSERT → 여러 행을 한 문장으로 묶어 JDBC 로 직접 실행
+ *  - INSERT ... VALUES (..), (..), ... AS new ON DUPLICATE KEY UPDATE : 이미 있는 content_id 는 최신 값으로 갱신
+ *  - upsert 한 번 = 트랜잭션 한 번, 그 안에서 batch-size 행씩 나눠 실행
+ */
+@Component
+public class AttractionBulkWriter {
+
+    private static final String COLUMNS =
+            "content_id, title, addr1, addr2, sido, gugun, latitude, longitude, content_type_id, image_url, tel";
+    private static final int COLUMN_COUNT = 11;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 행 별칭(new) 으로 새 값 참조 (VALUES(col) 은 MySQL 8.0.20 부터 deprecated, 별칭은 8.0.19+)
+    private static final String ON_DUPLICATE = " AS new ON DUPLICATE KEY UPDATE"
+            + " title = new.title, addr1 = new.addr1, addr2 = new.addr2,"
+            + " sido = new.sido, gugun = new.gugun,"
+            + " latitude = new.latitude, longitude = new.longitude,"
+            + " content_type_id = new.content_type_id, image_url = new.image_url, tel = new.tel";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    // 꽉 찬 배치용 SQL 은 한 번만 만들어 둠
+    private final String fullBatchSql;
+
+    public AttractionBulkWriter(JdbcTemplate jdbcTemplate,
+                                @Value("${tour.sync.write-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.fullBatchSql = upsertSql(this.batchSize);
+    }
+
+    /**
+     * @return 처리한 행 수
+     */
+    @Transactional
+    public int upsert(List<Attraction> attractions) {
+        for (int from = 0; from < attractions.size(); from += batchSize) {
+            List<Attraction> batch = attractions.subList(from, Math.min(from + batchSize, attractions.size()));
+            String sql = batch.size() == batchSize ? fullBatchSql : upsertSql(batch.size());
+            jdbcTemplate.update(sql, ps -> bind(ps, batch));
+        }
+        return attractions.size();
+    }
+
+    private static String upsertSql(int rows) {
+        StringBuilder sb = new StringBuilder(64 + rows * (ROW_PLACEHOLDER.length() + 2) + ON_DUPLICATE.length());
+        sb.append("INSERT INTO attractions (").append(COLUMNS).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(ROW_PLACEHOLDER);
+        }
+        return sb.append(ON_DUPLICATE).toString();
+    }
+
+    private static void bind(PreparedStatement ps, List<Attraction> batch) throws SQLException {
+        int i = 1;
+        for (Attraction a : batch) {
+            ps.setLong(i, a.getContentId());
+            ps.setString(i + 1, a.getTitle());
+            ps.setString(i + 2, a.getAddr1());
+            ps.setString(i + 3, a.getAddr2());
+            ps.setString(i + 4, a.getSido());
+            ps.setString(i + 5, a.getGugun());
+            ps.setDouble(i + 6, a.getLatitude());
+            ps.setDouble(i + 7, a.getLongitude());
+            if (a.getContentTypeId() == null) {
+                ps.setNull(i + 8, Types.INTEGER);
+            } else {
+                ps.setInt(i + 8, a.getContentTypeId());
+            }
+            ps.setString(i + 9, a.getImageUrl());
+            ps.setString(i + 10, a.getTel());
+            i += COLUMN_COUNT;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.ssafy.trip.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ssafy.trip.domain.Attraction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * attractions 스냅샷 파일 형식 (한 레코드 = 관광지 한 건, id 는 저장하지 않음)
+ *  - NDJSON : 한 줄에 JSON 객체 하나 {"contentId":..,"title":..,...}
+ *  - CSV    : 첫 줄은 헤더(COLUMNS 순서 고정), RFC 4180 따옴표 규칙
+ *             빈 칸 = null, "" = 빈 문자열 → 내보낸 값 그대로 다시 읽힘
+ * 파일 이름으로 형식 / 압축 여부 판단 (.ndjson, .jsonl, .csv + 선택적으로 .gz)
+ */
+public enum AttractionSnapshotFormat {
+
+    NDJSON {
+        @Override
+        String header() {
+            return null;
+        }
+
+        @Override
+        String readRecord(BufferedReader in) throws IOException {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Attraction parse(String record) throws IOException {
+            return JSON_READER.readValue(record);
+        }
+
+        @Override
+        void write(Attraction a, Writer out) throws IOException {
+            try (JsonGenerator g = JSON_FACTORY.createGenerator(out)) {
+                g.writeStartObject();
+                g.writeNumberField("contentId", a.getContentId());
+                g.writeStringField("title", a.getTitle());
+                g.writeStringField("addr1", a.getAddr1());
+                g.writeStringField("addr2", a.getAddr2());
+                g.writeStringField("sido", a.getSido());
+                g.writeStringField("gugun", a.getGugun());
+                g.writeNumberField("latitude", a.getLatitude());
+                g.writeNumberField("longitude", a.getLongitude());
+                if (a.getContentTypeId() == null) {
+                    g.writeNullField("contentTypeId");
+                } else {
+                    g.writeNumberField("contentTypeId", a.getContentTypeId());
+                }
+                g.writeStringField("imageUrl", a.getImageUrl());
+                g.writeStringField("tel", a.getTel());
+                g.writeEndObject();
+            }
+            out.write('\n');
+        }
+    },
+
+    CSV {
+        @Override
+        String header() {
+            return COLUMNS;
+        }
+
+        // 따옴표 안의 줄바꿈은 레코드의 일부 → 따옴표 개수가 짝수가 될 때까지 다음 줄을 이어 붙임
+        @Override
+        String readRecord(BufferedReader in) throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            if ((countQuotes(line) & 1) == 0) {
+                return line;
+            }
+            StringBuilder sb = new StringBuilder(line);
+            int quotes = countQuotes(line);
+            while ((quotes & 1) == 1) {
+                String next = in.readLine();
+                if (next == null) {
+                    throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+                }
+                sb.append('\n').append(next);
+                quotes += countQuotes(next);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        Attraction parse(String record) {
+            List<String> f = split(record);
+            if (f.size() != COLUMN_COUNT) {
+                throw new IllegalArgumentException("CSV 열 개수가 " + COLUMN_COUNT + " 개가 아닙니다: " + f.size());
+            }
+            Attraction a = new Attraction();
+            a.setContentId(f.get(0) == null ? null : Long.parseLong(f.get(0)));
+            a.setTitle(f.get(1));
+            a.setAddr1(f.get(2));
+            a.setAddr2(f.get(3));
+            a.setSido(f.get(4));
+            a.setGugun(f.get(5));
+            a.setLatitude(f.get(6) == null ? null : Double.parseDouble(f.get(6)));
+            a.setLongitude(f.get(7) == null ? null : Double.parseDouble(f.get(7)));
+            a.setContentTypeId(f.get(8) == null ? null : Integer.parseInt(f.get(8)));
+            a.setImageUrl(f.get(9));
+            a.setTel(f.get(10));
+            return a;
+        }
+
+        @Override
+        void write(Attraction a, Writer out) throws IOException {
+            out.write(String.valueOf(a.getContentId()));
+            out.write(',');
+            writeField(a.getTitle(), out);
+            out.write(',');
+            writeField(a.getAddr1(), out);
+            out.write(',');
+            writeField(a.getAddr2(), out);
+            out.write(',');
+            writeField(a.getSido(), out);
+            out.write(',');
+            writeField(a.getGugun(), out);
+            out.write(',');
+            out.write(String.valueOf(a.getLatitude()));
+            out.write(',');
+            out.write(String.valueOf(a.getLongitude()));
+            out.write(',');
+            if (a.getContentTypeId() != null) {
+                out.write(String.valueOf(a.getContentTypeId()));
+            }
+            out.write(',');
+            writeField(a.getImageUrl(), out);
+            out.write(',');
+            writeField(a.getTel(), out);
+            out.write('\n');
+        }
+    };
+
+    private static final String COLUMNS =
+            "contentId,title,addr1,addr2,sido,gugun,latitude,longitude,contentTypeId,imageUrl,tel";
+    private static final int COLUMN_COUNT = 11;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // 레코드마다 generator 를 닫아도 파일 Writer 는 열어 둠
+    private static final JsonFactory JSON_FACTORY = MAPPER.getFactory()
+            .copy()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectReader JSON_READER = MAPPER.readerFor(Attraction.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    /** 첫 줄 헤더 (없으면 null) */
+    abstract String header();
+
+    /** 다음 레코드 원문 (파일 끝이면 null) */
+    abstract String readRecord(BufferedReader in) throws IOException;
+
+    abstract Attraction parse(String record) throws IOException;
+
+    /** 레코드 하나 + 줄바꿈 */
+    abstract void write(Attraction attraction, Writer out) throws IOException;
+
+    public static AttractionSnapshotFormat of(String fileName) {
+        String name = stripGzip(fileName).toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("지원하지 않는 스냅샷 형식입니다 (.ndjson, .jsonl, .csv[.gz]): " + fileName);
+    }
+
+    public static boolean isGzip(String fileName) {
+        return fileName.toLowerCase().endsWith(".gz");
+    }
+
+    private static String stripGzip(String fileName) {
+        return isGzip(fileName) ? fileName.substring(0, fileName.length() - 3) : fileName;
+    }
+
+    private static void writeField(String value, Writer out) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(value);
+        }
+    }
+
+    private static List<String> split(String record) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;     // 현재 칸이 따옴표로 시작했는지
+        boolean inQuotes = false;   // 따옴표 안을 읽는 중인지
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    sb.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    sb.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == ',') {
+                fields.add(quoted || !sb.isEmpty() ? sb.toString() : null);
+                sb.setLength(0);
+                quoted = false;
+            } else if (c == '"' && sb.isEmpty() && !quoted) {
+                quoted = true;
+                inQuotes = true;
+            } else if (c != '\r') {
+                sb.append(c);
+            }
+        }
+        fields.add(quoted || !sb.isEmpty() ? sb.toString() : null);
+        return fields;
+    }
+
+    private static int countQuotes(String line) {
+        int n = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,304 @@
+package com.ssafy.trip.service;
+
+import com.ssafy.trip.domain.Attraction;
+import com.ssafy.trip.dto.AttractionSnapshotResponse;
+import com.ssafy.trip.repository.AttractionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * attractions 스냅샷 가져오기 / 내보내기 (Tour API 없이 새 환경 / CI DB 를 채우는 용도)
+ *  - 파일: tour.snapshot.dir 아래 NDJSON 또는 CSV, .gz 면 gzip (AttractionSnapshotFormat)
+ *  - 가져오기: 읽는 스레드가 레코드를 chunk-size 개씩 묶어 파싱 스레드들에 넘기고,
+ *             파싱이 끝난 묶음을 파일 순서대로 AttractionBulkWriter 로 upsert (묶음 하나 = 트랜잭션 하나)
+ *             파싱 대기 묶음은 parallelism * 2 개까지만 → 파일 크기와 관계없이 메모리 사용량 일정
+ *  - 내보내기: DB 결과를 한 행씩 스트리밍해 임시 파일에 쓰고, 다 쓰면 이름을 바꿔 교체
+ *  - tour.snapshot.bootstrap-file 을 지정하면 기동 시 attractions 가 비어 있을 때 자동으로 가져옴
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttractionSnapshotService {
+
+    private static final int IO_BUFFER = 1 << 16;
+
+    private static final String SELECT_ALL = "SELECT content_id, title, addr1, addr2, sido, gugun,"
+            + " latitude, longitude, content_type_id, image_url, tel FROM attractions ORDER BY content_id";
+
+    private final AttractionBulkWriter attractionBulkWriter;
+    private final AttractionRepository attractionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${tour.snapshot.dir:snapshots}")
+    private String snapshotDir;
+
+    // 파싱 스레드 수 (0 이면 CPU 코어 수)
+    @Value("${tour.snapshot.parallelism:0}")
+    private int parallelism;
+
+    // 파싱 / upsert 단위 레코드 수
+    @Value("${tour.snapshot.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${tour.snapshot.bootstrap-file:}")
+    private String bootstrapFile;
+
+    private ExecutorService parseExecutor;
+    private JdbcTemplate streamingJdbcTemplate;
+
+    private record ParsedChunk(List<Attraction> rows, int skipped) {}
+
+    @PostConstruct
+    void init() {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        chunkSize = Math.max(1, chunkSize);
+        parseExecutor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("tour-snapshot-"));
+
+        // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 행을 하나씩 스트리밍 (기본은 결과 전체를 메모리에 적재)
+        streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        parseExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (bootstrapFile == null || bootstrapFile.isBlank()) {
+            return;
+        }
+        if (attractionRepository.count() > 0) {
+            log.info("attractions 가 비어 있지 않아 스냅샷 가져오기를 건너뜁니다. file={}", bootstrapFile);
+            return;
+        }
+        try {
+            importFrom(Path.of(bootstrapFile));
+        } catch (IOException | RuntimeException e) {
+            log.error("기동 시 스냅샷 가져오기 실패 file={}", bootstrapFile, e);
+        }
+    }
+
+    /**
+     * @param fileName tour.snapshot.dir 아래 파일 이름 (하위 경로 불가)
+     */
+    public AttractionSnapshotResponse importSnapshot(String fileName) throws IOException {
+        Path file = resolve(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("스냅샷 파일이 없습니다: " + fileName);
+        }
+        return importFrom(file);
+    }
+
+    /**
+     * @param fileName tour.snapshot.dir 아래 파일 이름 (하위 경로 불가), 확장자로 형식 / 압축 결정
+     */
+    public AttractionSnapshotResponse exportSnapshot(String fileName) throws IOException {
+        Path file = resolve(fileName);
+        String name = file.getFileName().toString();
+        AttractionSnapshotFormat format = AttractionSnapshotFormat.of(name);
+        boolean gzip = AttractionSnapshotFormat.isGzip(name);
+
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(name + ".tmp");
+        long started = System.nanoTime();
+        long[] rows = {0};
+
+        try (Writer out = openWriter(tmp, gzip)) {
+            if (format.header() != null) {
+                out.write(format.header());
+                out.write('\n');
+            }
+            streamingJdbcTemplate.query(SELECT_ALL, rs -> {
+                Attraction a = new Attraction();
+                a.setContentId(rs.getLong("content_id"));
+                a.setTitle(rs.getString("title"));
+                a.setAddr1(rs.getString("addr1"));
+                a.setAddr2(rs.getString("addr2"));
+                a.setSido(rs.getString("sido"));
+                a.setGugun(rs.getString("gugun"));
+                a.setLatitude(rs.getDouble("latitude"));
+                a.setLongitude(rs.getDouble("longitude"));
+                a.setContentTypeId(rs.getObject("content_type_id", Integer.class));
+                a.setImageUrl(rs.getString("image_url"));
+                a.setTel(rs.getString("tel"));
+                try {
+                    format.write(a, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(tmp);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        AttractionSnapshotResponse res = result(file, format, gzip, rows[0], 0, started);
+        log.info("스냅샷 내보내기 완료 file={}, rows={}, {}ms", file, res.getRows(), res.getElapsedMs());
+        return res;
+    }
+
+    private AttractionSnapshotResponse importFrom(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        AttractionSnapshotFormat format = AttractionSnapshotFormat.of(name);
+        boolean gzip = AttractionSnapshotFormat.isGzip(name);
+        long started = System.nanoTime();
+        log.info("스냅샷 가져오기 시작 file={}, format={}, parallelism={}", file, format, parallelism);
+
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        int maxInFlight = parallelism * 2;
+        long rows = 0;
+        long skipped = 0;
+        long recordNo = 0;
+
+        try (BufferedReader in = openReader(file, gzip)) {
+            if (format.header() != null) {
+                checkHeader(format, format.readRecord(in));
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String record;
+            while ((record = format.readRecord(in)) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    inFlight.add(submitParse(format, chunk, recordNo));
+                    recordNo += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+
+                    // 파싱이 읽기를 못 따라가면 앞 묶음부터 저장하며 대기
+                    while (inFlight.size() >= maxInFlight) {
+                        ParsedChunk parsed = await(inFlight.poll());
+                        rows += attractionBulkWriter.upsert(parsed.rows());
+                        skipped += parsed.skipped();
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(submitParse(format, chunk, recordNo));
+            }
+            while (!inFlight.isEmpty()) {
+                ParsedChunk parsed = await(inFlight.poll());
+                rows += attractionBulkWriter.upsert(parsed.rows());
+                skipped += parsed.skipped();
+            }
+        } finally {
+            inFlight.forEach(f -> f.cancel(true));
+        }
+
+        AttractionSnapshotResponse res = result(file, format, gzip, rows, skipped, started);
+        log.info("스냅샷 가져오기 완료 file={}, rows={}, skipped={}, {}ms ({} rows/s)",
+                file, rows, skipped, res.getElapsedMs(), Math.round(res.getRowsPerSecond()));
+        return res;
+    }
+
+    private Future<ParsedChunk> submitParse(AttractionSnapshotFormat format, List<String> records, long firstRecordNo) {
+        return parseExecutor.submit(() -> {
+            List<Attraction> parsed = new ArrayList<>(records.size());
+            int skipped = 0;
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    Attraction a = format.parse(records.get(i));
+                    if (a.getContentId() == null || a.getTitle() == null
+                            || a.getLatitude() == null || a.getLongitude() == null) {
+                        throw new IllegalArgumentException("contentId / title / latitude / longitude 는 필수입니다.");
+                    }
+                    parsed.add(a);
+                } catch (Exception e) {
+                    // 묶음마다 첫 건만 기록
+                    if (skipped++ == 0) {
+                        log.warn("스냅샷 레코드 #{} 건너뜀: {}", firstRecordNo + i + 1, e.getMessage());
+                    }
+                }
+            }
+            return new ParsedChunk(parsed, skipped);
+        });
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("스냅샷 가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("스냅샷 파싱 실패", e.getCause());
+        }
+    }
+
+    private static void checkHeader(AttractionSnapshotFormat format, String header) {
+        // 엑셀 등에서 저장한 UTF-8 BOM 허용
+        if (header != null && header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        if (header == null || !header.strip().equals(format.header())) {
+            throw new IllegalArgumentException("CSV 헤더가 다릅니다. 기대값: " + format.header());
+        }
+    }
+
+    private Path resolve(String fileName) {
+        Path dir = Path.of(snapshotDir).toAbsolutePath().normalize();
+        Path file = dir.resolve(fileName).normalize();
+        if (fileName.isBlank() || !dir.equals(file.getParent())) {
+            throw new IllegalArgumentException("스냅샷 디렉터리 안의 파일 이름만 사용할 수 있습니다: " + fileName);
+        }
+        return file;
+    }
+
+    private static BufferedReader openReader(Path file, boolean gzip) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        in = gzip ? new GZIPInputStream(in, IO_BUFFER) : new BufferedInputStream(in, IO_BUFFER);
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), IO_BUFFER);
+    }
+
+    private static Writer openWriter(Path file, boolean gzip) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        out = gzip ? new GZIPOutputStream(out, IO_BUFFER) : new BufferedOutputStream(out, IO_BUFFER);
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), IO_BUFFER);
+    }
+
+    private static AttractionSnapshotResponse result(Path file, AttractionSnapshotFormat format, boolean gzip,
+                                                     long rows, long skipped, long startedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        return AttractionSnapshotResponse.builder()
+                .file(file.getFileName().toString())
+                .format(format.name())
+                .gzip(gzip)
+                .rows(rows)
+                .skipped(skipped)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(elapsedMs == 0 ? rows : rows * 1000.0 / elapsedMs)
+                .build();
+    }
+}
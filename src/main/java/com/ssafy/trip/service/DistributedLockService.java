@@ -0,0 +1,52 @@
+package com.ssafy.trip.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 노드 간 잠금 (SET NX PX)
+ *  - 잠금마다 토큰을 발급, 해제/연장은 토큰이 일치할 때만 (TTL 만료 후 다른 노드가 잡은 잠금을 지우지 않도록)
+ *  - Redis 오류는 그대로 던지므로 호출 측에서 잠금 없이 진행할지 결정
+ */
+@Service
+@RequiredArgsConstructor
+public class DistributedLockService {
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 잠금 토큰, 이미 다른 곳에서 잡고 있으면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public boolean unlock(String key, String token) {
+        Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        return deleted != null && deleted > 0;
+    }
+
+    /** 오래 걸리는 작업에서 잠금 만료 연장 */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return extended != null && extended > 0;
+    }
+}
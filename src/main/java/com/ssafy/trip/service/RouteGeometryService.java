@@ -0,0 +1,240 @@
+package com.ssafy.trip.service;
+
+import com.ssafy.trip.domain.Address;
+import com.ssafy.trip.domain.RouteGeometry;
+import com.ssafy.trip.domain.RoutePlan;
+import com.ssafy.trip.dto.GeoPath;
+import com.ssafy.trip.dto.RoutingRequest;
+import com.ssafy.trip.dto.RoutingResponse;
+import com.ssafy.trip.repository.RouteGeometryRepository;
+import com.ssafy.trip.repository.RoutePlanRepository;
+import com.ssafy.trip.repository.RouteRepository;
+import com.ssafy.trip.service.routing.RouteGeometryCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장된 Route 의 일자별 경로를 미리 계산해 route_geometry 에 보관
+ *  - RoutePlan 구성이 바뀌면(RoutePlansChangedEvent) 커밋 후 비동기로 재계산
+ *  - 버전 = (일자, 순서, planId, 좌표) 목록의 SHA-256, 조회 시 현재 목록과 다르면 사용하지 않고 재계산 요청
+ *  - 일자 안 순서는 사용자가 정한 그대로 (TSP 재정렬 없음)
+ *  - 계산 중에 루트가 삭제되면 저장하지 않음, 확인과 저장 사이에 삭제됐으면 저장한 행을 다시 지움
+ *  - 길찾기에 실패한 일자는 실패로 표시해 같은 버전으로 저장, failed-retry-minutes 가 지난 뒤 조회 시에만 다시 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteGeometryService {
+
+    private final RouteRepository routeRepository;
+    private final RoutePlanRepository routePlanRepository;
+    private final RouteGeometryRepository routeGeometryRepository;
+    private final RoutingService routingService;
+
+    // 길찾기에 실패한 일자가 있는 경로를 다시 계산하기까지의 간격 (그 전까지는 실패한 일자만 경로 없이 제공)
+    @Value("${route.geometry.failed-retry-minutes:30}")
+    private long failedRetryMinutes;
+
+    private enum ComputeState { RUNNING, RERUN }
+
+    // 재계산 중인 routeId (조회가 몰려도 같은 루트를 동시에 여러 번 계산하지 않도록)
+    //  계산 중에 들어온 변경은 버리지 않고 RERUN 으로 표시 → 끝난 뒤 한 번 더 계산
+    private final Map<Long, ComputeState> computing = new ConcurrentHashMap<>();
+
+    /**
+     * 저장 경로 조회 결과
+     *
+     * @param days     dayIndex → 경로 (길찾기에 실패한 일자는 failed)
+     * @param retryDue 실패한 일자가 있고 마지막 계산 후 failed-retry-minutes 가 지나 다시 계산할 때가 됨
+     */
+    public record CurrentGeometry(Map<Integer, RouteGeometryCodec.DayGeometry> days, boolean retryDue) {}
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoutePlansChanged(RoutePlansChangedEvent event) {
+        recompute(event.routeId());
+    }
+
+    public void recompute(Long routeId) {
+        ComputeState state = computing.compute(routeId,
+                (id, current) -> current == null ? ComputeState.RUNNING : ComputeState.RERUN);
+        if (state != ComputeState.RUNNING) {
+            return;
+        }
+
+        boolean finished = false;
+        try {
+            // 계산 중에 RERUN 이 표시됐으면 다시 RUNNING 으로 바꾸고 한 번 더
+            do {
+                recomputeOnce(routeId);
+            } while (!computing.remove(routeId, ComputeState.RUNNING)
+                    && computing.replace(routeId, ComputeState.RERUN, ComputeState.RUNNING));
+            finished = true;
+        } finally {
+            if (!finished) {
+                computing.remove(routeId);
+            }
+        }
+    }
+
+    private void recomputeOnce(Long routeId) {
+        try {
+            List<RoutePlan> routePlans = routePlanRepository.findAllByRouteIdWithPlan(routeId);
+            Optional<RouteGeometry> existing = routeGeometryRepository.findByRouteId(routeId);
+            if (routePlans.isEmpty()) {
+                existing.ifPresent(routeGeometryRepository::delete);
+                return;
+            }
+
+            String version = version(routePlans);
+            if (existing.isPresent() && version.equals(existing.get().getVersion()) && !retryDue(existing.get())) {
+                return;
+            }
+
+            // 일자별로 따로 처리: 한 일자가 실패해도(같은 장소 두 곳 등 경로 없음) 나머지는 저장하고 실패한 일자만 표시
+            List<RouteGeometryCodec.DayGeometry> days = new ArrayList<>();
+            groupByDay(routePlans).forEach((dayIndex, points) -> {
+                if (points.size() < 2) {
+                    days.add(new RouteGeometryCodec.DayGeometry(dayIndex, 0, 0, GeoPath.EMPTY));
+                    return;
+                }
+                try {
+                    RoutingResponse direction = routingService.getDirectionInOrder(points);
+                    days.add(new RouteGeometryCodec.DayGeometry(
+                            dayIndex,
+                            direction.getTotalDistanceMeters(),
+                            direction.getTotalDurationSeconds(),
+                            direction.getPolyline()
+                    ));
+                } catch (RuntimeException e) {
+                    log.warn("루트 경로 계산 실패 routeId={}, dayIndex={}: {}", routeId, dayIndex, e.getMessage());
+                    days.add(RouteGeometryCodec.DayGeometry.failed(dayIndex));
+                }
+            });
+
+            // 길찾기 호출 동안 RouteService.deleteRoute 가 끝났으면 주인 없는 행이 남지 않도록 저장하지 않음
+            if (!routeRepository.existsById(routeId)) {
+                log.debug("삭제된 루트라 경로를 저장하지 않음 routeId={}", routeId);
+                return;
+            }
+
+            RouteGeometry geometry = existing.orElseGet(() -> RouteGeometry.builder().routeId(routeId).build());
+            geometry.setVersion(version);
+            geometry.setGeometry(RouteGeometryCodec.encode(days));
+            // 재시도 결과가 같아도 갱신 시각을 남겨 다음 재시도까지 간격 유지
+            geometry.setUpdatedAt(LocalDateTime.now());
+            routeGeometryRepository.save(geometry);
+
+            // 확인과 저장 사이에 삭제된 경우
+            if (!routeRepository.existsById(routeId)) {
+                routeGeometryRepository.deleteByRouteId(routeId);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 저장한 경우
+            log.debug("경로 저장 충돌 routeId={}", routeId);
+        } catch (OptimisticLockingFailureException e) {
+            // 기존 행을 갱신하는 사이 루트와 함께 삭제된 경우
+            log.debug("경로 저장 중 루트 삭제 routeId={}", routeId);
+        } catch (RuntimeException e) {
+            // 이전 버전은 남아 있어도 버전 비교에서 걸러지므로 제공되지 않음
+            log.warn("루트 경로 저장 실패 routeId={}: {}", routeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 RoutePlan 목록과 버전이 같은 저장 경로
+     *  - 없거나 오래된 경우 empty
+     *  - 일부 일자만 실패한 경로도 현재 버전으로 취급 (조회마다 재계산 요청하지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CurrentGeometry> findCurrent(Long routeId, List<RoutePlan> routePlans) {
+        if (routePlans.isEmpty()) {
+            return Optional.empty();
+        }
+        return routeGeometryRepository.findByRouteId(routeId)
+                .filter(g -> g.getVersion().equals(version(routePlans)))
+                .map(g -> {
+                    Map<Integer, RouteGeometryCodec.DayGeometry> byDay = new HashMap<>();
+                    boolean anyFailed = false;
+                    for (RouteGeometryCodec.DayGeometry day : RouteGeometryCodec.decode(g.getGeometry())) {
+                        byDay.put(day.dayIndex(), day);
+                        anyFailed |= day.failed();
+                    }
+                    return new CurrentGeometry(byDay, anyFailed && retryIntervalPassed(g));
+                });
+    }
+
+    private boolean retryDue(RouteGeometry geometry) {
+        return retryIntervalPassed(geometry)
+                && RouteGeometryCodec.decode(geometry.getGeometry()).stream()
+                        .anyMatch(RouteGeometryCodec.DayGeometry::failed);
+    }
+
+    private boolean retryIntervalPassed(RouteGeometry geometry) {
+        return geometry.getUpdatedAt() == null
+                || geometry.getUpdatedAt().isBefore(LocalDateTime.now().minusMinutes(failedRetryMinutes));
+    }
+
+    @Transactional
+    public void delete(Long routeId) {
+        routeGeometryRepository.deleteByRouteId(routeId);
+    }
+
+    /** 일자 / 순서 / planId / 좌표 목록의 해시 (목록 순서와 무관) */
+    static String version(List<RoutePlan> routePlans) {
+        List<String> rows = new ArrayList<>(routePlans.size());
+        for (RoutePlan rp : routePlans) {
+            Address location = rp.getPlan().getLocation();
+            rows.add(rp.getDayIndex() + ":" + rp.getOrderIndex() + ":" + rp.getPlan().getId() + ":"
+                    + (location == null ? "-" : location.getLatitude() + "," + location.getLongitude()));
+        }
+        rows.sort(null);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String row : rows) {
+                digest.update(row.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // dayIndex 오름차순, 일자 안은 orderIndex 순, 좌표 없는 장소 제외
+    static Map<Integer, List<RoutingRequest.Point>> groupByDay(List<RoutePlan> routePlans) {
+        Map<Integer, List<RoutingRequest.Point>> byDay = new TreeMap<>();
+        routePlans.stream()
+                .sorted(Comparator
+                        .comparing(RoutePlan::getDayIndex, Comparator.nullsLast(Integer::compareTo))
+                        .thenComparing(RoutePlan::getOrderIndex, Comparator.nullsLast(Integer::compareTo)))
+                .forEach(rp -> {
+                    List<RoutingRequest.Point> points = byDay.computeIfAbsent(
+                            rp.getDayIndex() == null ? 1 : rp.getDayIndex(), d -> new ArrayList<>());
+                    Address location = rp.getPlan().getLocation();
+                    if (location != null && location.getLatitude() != null && location.getLongitude() != null) {
+                        RoutingRequest.Point point = new RoutingRequest.Point();
+                        point.setLat(location.getLatitude());
+                        point.setLng(location.getLongitude());
+                        points.add(point);
+                    }
+                });
+        return byDay;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.trip.service;
+
+/**
+ * Route 의 장소 구성(일자 / 순서 / 좌표)이 바뀌었을 수 있음 → 저장된 경로 재계산
+ */
+public record RoutePlansChangedEvent(Long routeId) {
+}
@@ -3,11 +3,18 @@ package com.ssafy.trip.service;
 import com.ssafy.trip.domain.*;
 import com.ssafy.trip.dto.*;
 import com.ssafy.trip.repository.*;
+import com.ssafy.trip.service.routing.CostMatrixProvider;
+import com.ssafy.trip.service.routing.DayPartitioner;
+import com.ssafy.trip.service.routing.DistanceMatrix;
+import com.ssafy.trip.service.routing.PolylineEncoder;
+import com.ssafy.trip.service.routing.RouteGeometryCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +33,11 @@ public class RouteService {
     private final RouteLikeRepository routeLikeRepository;
     private final RoutePlanRepository routePlanRepository;
     private final CommentRepository commentRepository;
+    private final CostMatrixProvider costMatrixProvider;
+    private final DayPartitioner dayPartitioner;
+    private final JdbcTemplate jdbcTemplate;
+    private final RouteGeometryService routeGeometryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Route createRoute(String loginEmail, RouteCreateRequest request) {
@@ -65,7 +77,9 @@ public class RouteService {
             }
         }
 
-        return routeRepository.save(route);
+        Route saved = routeRepository.save(route);
+        eventPublisher.publishEvent(new RoutePlansChangedEvent(saved.getId()));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -101,6 +115,7 @@ public class RouteService {
 
         // JPA 영속 상태라 save() 안 해도 flush 되지만, 명시적으로
         routeRepository.save(route);
+        eventPublisher.publishEvent(new RoutePlansChangedEvent(routeId));
 
         return RouteResponse.from(route);
     }
@@ -134,10 +149,100 @@ public class RouteService {
                 .build();
 
         route.getRoutePlans().add(routePlan);
+        eventPublisher.publishEvent(new RoutePlansChangedEvent(routeId));
 
         return route;
     }
 
+    /**
+     * 루트의 모든 장소를 하루 제한(장소 수 / 이동 시간)에 맞춰 날짜별로 나누고 날짜 안 순서까지 다시 배정
+     *  - route.totalDays 가 있으면 그 일수 안에서 날짜별 이동량이 고르게, 없으면 가장 적은 일수로
+     *  - 좌표가 없는 장소는 마지막 날 끝에 기존 순서대로 붙임
+     *  - dayIndex / orderIndex 는 한 번의 JDBC batch update 로 반영
+     */
+    @Transactional
+    public List<DaysDto> optimizeDays(String loginEmail, Long routeId, DayOptimizeRequest request) {
+        Member member = memberRepository.findByEmail(loginEmail)
+                .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
+
+        Route route = routeRepository.findById(routeId)
+                .orElseThrow(() -> new IllegalArgumentException("Route를 찾을 수 없습니다."));
+
+        if (!route.getMember().getId().equals(member.getId())) {
+            throw new IllegalArgumentException("해당 Route 수정 권한이 없습니다.");
+        }
+
+        List<RoutePlan> routePlans = new ArrayList<>(routePlanRepository.findAllByRouteIdWithPlan(routeId));
+        routePlans.sort(Comparator
+                .comparing(RoutePlan::getDayIndex, Comparator.nullsLast(Integer::compareTo))
+                .thenComparing(RoutePlan::getOrderIndex, Comparator.nullsLast(Integer::compareTo)));
+
+        List<RoutePlan> located = new ArrayList<>();
+        List<RoutePlan> unlocated = new ArrayList<>();
+        List<RoutingRequest.Point> points = new ArrayList<>();
+        for (RoutePlan routePlan : routePlans) {
+            Address location = routePlan.getPlan().getLocation();
+            if (location == null || location.getLatitude() == null || location.getLongitude() == null) {
+                unlocated.add(routePlan);
+                continue;
+            }
+            RoutingRequest.Point point = new RoutingRequest.Point();
+            point.setLat(location.getLatitude());
+            point.setLng(location.getLongitude());
+            points.add(point);
+            located.add(routePlan);
+        }
+
+        int[][] days = new int[0][];
+        if (!located.isEmpty()) {
+            DistanceMatrix dist = costMatrixProvider.build(points);
+            Double maxCostPerDay = request.getMaxTravelMinutesPerDay() == null
+                    ? null
+                    : costMatrixProvider.costForMinutes(request.getMaxTravelMinutesPerDay());
+            days = dayPartitioner.partition(dist, request.getMaxStopsPerDay(), maxCostPerDay,
+                    route.getTotalDays(), request.getTspTimeBudgetMs());
+        }
+
+        List<List<RoutePlan>> assigned = new ArrayList<>();
+        for (int[] day : days) {
+            List<RoutePlan> plansInDay = new ArrayList<>(day.length);
+            for (int idx : day) {
+                plansInDay.add(located.get(idx));
+            }
+            assigned.add(plansInDay);
+        }
+        if (!unlocated.isEmpty()) {
+            if (assigned.isEmpty()) {
+                assigned.add(new ArrayList<>());
+            }
+            assigned.get(assigned.size() - 1).addAll(unlocated);
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(routePlans.size());
+        List<DaysDto> daysDtoList = new ArrayList<>(assigned.size());
+        for (int d = 0; d < assigned.size(); d++) {
+            int dayIndex = d + 1;
+            List<PlansDto> plansDtoList = new ArrayList<>();
+            List<RoutePlan> plansInDay = assigned.get(d);
+            for (int o = 0; o < plansInDay.size(); o++) {
+                RoutePlan routePlan = plansInDay.get(o);
+                int orderIndex = o + 1;
+                batchArgs.add(new Object[]{dayIndex, orderIndex, routePlan.getId()});
+                plansDtoList.add(PlansDto.from(routePlan.getPlan(), orderIndex));
+            }
+            daysDtoList.add(DaysDto.from(dayIndex, plansDtoList));
+        }
+
+        // 엔티티를 하나씩 바꾸면 행마다 UPDATE 가 나가므로 JDBC batch 로 한 번에
+        jdbcTemplate.batchUpdate(
+                "UPDATE route_plan SET day_index = ?, order_index = ? WHERE id = ?",
+                batchArgs
+        );
+        eventPublisher.publishEvent(new RoutePlansChangedEvent(routeId));
+
+        return daysDtoList;
+    }
+
     @Transactional
     public void deleteRoute(String loginEmail, Long routeId) {
         Member member = memberRepository.findByEmail(loginEmail)
@@ -152,6 +257,7 @@ public class RouteService {
 
         // RoutePlan에 orphanRemoval = true 걸려 있으면 Route 삭제 시 자동 제거
         routeRepository.delete(route);
+        routeGeometryService.delete(routeId);
     }
 
 
@@ -261,6 +367,16 @@ public class RouteService {
         routeLikeRepository.findByRouteAndMember(route, member).ifPresent(like -> liked.set(true));
 
         List<RoutePlan> routePlans = routePlanRepository.findAllByRouteIdWithPlan(routeId);
+
+        // 미리 계산된 경로 (없거나 장소 구성이 바뀌어 오래된 경우 재계산 요청, 이번 응답은 경로 없이)
+        //  길찾기에 실패한 일자는 경로 없이 제공, 재시도 간격이 지났을 때만 다시 요청
+        Optional<RouteGeometryService.CurrentGeometry> current = routeGeometryService.findCurrent(routeId, routePlans);
+        Map<Integer, RouteGeometryCodec.DayGeometry> geometry =
+                current.map(RouteGeometryService.CurrentGeometry::days).orElse(null);
+        if (!routePlans.isEmpty() && current.map(RouteGeometryService.CurrentGeometry::retryDue).orElse(true)) {
+            eventPublisher.publishEvent(new RoutePlansChangedEvent(routeId));
+        }
+
         Map<Integer, List<RoutePlan>> groupedByDay = routePlans.stream()
                 .collect(Collectors.groupingBy(
                         RoutePlan::getDayIndex,
@@ -282,7 +398,17 @@ public class RouteService {
                             })
                             .collect(Collectors.toList());
 
-                    return DaysDto.from(dayIndex, plansDtoList);
+                    RouteGeometryCodec.DayGeometry day = geometry == null ? null : geometry.get(dayIndex);
+                    if (day == null || day.failed()) {
+                        return DaysDto.from(dayIndex, plansDtoList);
+                    }
+                    return DaysDto.builder()
+                            .dayIndex(dayIndex)
+                            .plans(plansDtoList)
+                            .distanceMeters(day.distanceMeters())
+                            .durationSeconds(day.durationSeconds())
+                            .encodedPolyline(PolylineEncoder.encode(day.path()))
+                            .build();
                 })
                 .toList();
 
@@ -290,6 +416,24 @@ public class RouteService {
     }
 
 
+    /**
+     * 일자별 길찾기용 좌표 (dayIndex 오름차순, 일자 안은 orderIndex 순)
+     *  - 공개 루트는 누구나, 비공개 루트는 본인만
+     *  - 좌표가 없는 장소는 제외
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, List<RoutingRequest.Point>> getDayPoints(String email, Long routeId) {
+        Route route = routeRepository.findById(routeId)
+                .orElseThrow(() -> new IllegalArgumentException("Route를 찾을 수 없습니다."));
+
+        if (!Boolean.TRUE.equals(route.getIsPublic())
+                && (email == null || !route.getMember().getEmail().equals(email))) {
+            throw new IllegalArgumentException("해당 Route에 접근할 수 없습니다.");
+        }
+
+        return RouteGeometryService.groupByDay(routePlanRepository.findAllByRouteIdWithPlan(routeId));
+    }
+
     @Transactional
     public List<CommentResponse> getComments(Long routeId) {
         return commentRepository.findAllByRouteId(routeId).stream()
@@ -1,243 +1,359 @@
 package com.ssafy.trip.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.trip.client.NaverDirectionClient;
+import com.ssafy.trip.client.UpstreamUnavailableException;
+import com.ssafy.trip.dto.GeoPath;
+import com.ssafy.trip.dto.RouteDaysRoutingResponse;
 import com.ssafy.trip.dto.RoutingRequest;
 import com.ssafy.trip.dto.RoutingResponse;
+import com.ssafy.trip.service.routing.CostMatrixProvider;
+import com.ssafy.trip.service.routing.DirectionCache;
+import com.ssafy.trip.service.routing.GeoDistanceCalculator;
+import com.ssafy.trip.service.routing.PolylineEncoder;
+import com.ssafy.trip.service.routing.PolylineSimplifier;
+import com.ssafy.trip.service.routing.RequestCoalescer;
+import com.ssafy.trip.service.routing.TspOptimizer;
+import com.ssafy.trip.service.routing.TspResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoutingService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final NaverDirectionClient naverDirectionClient;
+    private final DirectionCache directionCache;
+    private final TspOptimizer tspOptimizer;
+    private final CostMatrixProvider costMatrixProvider;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${naver.map.client-id}")
-    private String naverClientId;
+    // 같은 요청이 동시에 몰리면 TSP + 네이버 호출을 한 번만 (노드 간 중복은 DirectionCache 의 Redis 잠금)
+    private final RequestCoalescer<String, RoutingResponse> coalescer = new RequestCoalescer<>();
 
-    @Value("${naver.map.client-secret}")
-    private String naverClientSecret;
+    // 비동기 모드: 길찾기를 전용 풀에서 수행해 Tomcat 워커를 붙잡지 않음 (구간 요청 풀과는 별도)
+    @Value("${routing.async.enabled:true}")
+    private boolean asyncEnabled;
 
-    private static final String NAVER_DIRECTION_URL =
-            "https://maps.apigw.ntruss.com/map-direction/v1/driving";
+    @Value("${routing.async.concurrency:32}")
+    private int asyncConcurrency;
 
-    public RoutingResponse getRoute(RoutingRequest request) {
-        List<RoutingRequest.Point> original = request.getPoints();
-        if (original == null || original.size() < 2) {
-            throw new IllegalArgumentException("최소 2개 이상의 좌표가 필요합니다.");
-        }
+    @Value("${routing.async.queue-capacity:200}")
+    private int asyncQueueCapacity;
 
-        List<RoutingRequest.Point> points = optimizeExactTspPath(original);
+    @Value("${routing.async.timeout-ms:10000}")
+    private long asyncTimeoutMs;
 
-        RoutingRequest.Point startPoint = points.get(0);
-        RoutingRequest.Point goalPoint  = points.get(points.size() - 1);
+    // 길찾기 API 를 쓸 수 없을 때 직선 경로 소요 시간 추정 (직선 거리 × 우회 계수 / 평균 속도)
+    @Value("${routing.fallback.road-factor:1.3}")
+    private double fallbackRoadFactor;
 
-        String start = startPoint.getLng() + "," + startPoint.getLat();
-        String goal  = goalPoint.getLng() + "," + goalPoint.getLat();
+    @Value("${routing.fallback.speed-kmh:40}")
+    private double fallbackSpeedKmh;
 
-        String waypoints = null;
-        if (points.size() > 2) {
-            waypoints = points.subList(1, points.size() - 1).stream()
-                    .map(p -> p.getLng() + "," + p.getLat())
-                    .collect(Collectors.joining("|"));
-        }
-
-        UriComponentsBuilder builder = UriComponentsBuilder
-                .fromHttpUrl(NAVER_DIRECTION_URL)
-                .queryParam("start", start)
-                .queryParam("goal", goal)
-                // trafast: 빠른(시간 위주), traoptimal: 최적 (시간/비용 종합)
-                .queryParam("option", "trafast");
-
-        if (waypoints != null && !waypoints.isBlank()) {
-            builder.queryParam("waypoints", waypoints);
-        }
+    private ThreadPoolExecutor routingExecutor;
 
-        String url = builder.toUriString();
+    @PostConstruct
+    void initRoutingExecutor() {
+        // 동시 수행 + 대기 한도를 넘으면 즉시 거절 (503)
+        routingExecutor = new ThreadPoolExecutor(
+                asyncConcurrency, asyncConcurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(asyncQueueCapacity),
+                new CustomizableThreadFactory("routing-async-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        routingExecutor.allowCoreThreadTimeOut(true);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-NCP-APIGW-API-KEY-ID", naverClientId);
-        headers.set("X-NCP-APIGW-API-KEY", naverClientSecret);
+    @PreDestroy
+    void shutdownRoutingExecutor() {
+        routingExecutor.shutdown();
+    }
 
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
+    /**
+     * 비동기 길찾기
+     *  - routing.async.enabled=false 면 호출 스레드에서 바로 수행한 결과를 완료된 future 로 반환
+     *  - TSP / 네이버 호출만 워커 스레드에서 수행, 같은 요청 합치기 / 다른 노드의 로드 대기는 스레드를 점유하지 않음
+     *  - 풀이 가득 차면 503, timeout-ms 안에 끝나지 않으면 504
+     */
+    public CompletableFuture<RoutingResponse> getRouteAsync(RoutingRequest request) {
+        if (!asyncEnabled) {
+            return CompletableFuture.completedFuture(getRoute(request));
+        }
+        checkPoints(request.getPoints());
+
+        return timedAsync("route", () -> coalescer.executeAsync(coalescingKey(request), () -> computeRouteAsync(request)))
+                .orTimeout(asyncTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        return CompletableFuture.failedFuture(
+                                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "길찾기 요청이 많아 처리할 수 없습니다."));
+                    }
+                    if (cause instanceof TimeoutException) {
+                        return CompletableFuture.failedFuture(
+                                new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "길찾기 처리 시간이 초과되었습니다."));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            String body = response.getBody();
-            if (body == null) {
-                throw new RuntimeException("네이버 길찾기 응답이 비어 있습니다.");
-            }
+    public RoutingResponse getRoute(RoutingRequest request) {
+        checkPoints(request.getPoints());
+        return timed("route", () -> coalescer.execute(coalescingKey(request), () -> computeRoute(request)));
+    }
 
-            JsonNode root = objectMapper.readTree(body);
-            JsonNode routesNode = root.path("route").path("trafast");
-            if (!routesNode.isArray() || routesNode.isEmpty()) {
-                throw new RuntimeException("Naver Direction: trafast 경로가 없습니다.");
+    /**
+     * 루트 전체 일자별 길찾기
+     *  - 날짜마다 getRouteAsync 로 동시에 계산 (캐시 / 요청 합치기 그대로 적용)
+     *  - 한 날짜가 실패해도 나머지는 반환, 실패한 날은 error 에 사유
+     *
+     * @param dayPoints 일자별 좌표 (RouteService.getDayPoints)
+     * @param options   points 를 제외한 옵션 (encoding, zoom, simplifyToleranceMeters, tspTimeBudgetMs)
+     */
+    public CompletableFuture<RouteDaysRoutingResponse> getRouteDaysAsync(Long routeId,
+                                                                        Map<Integer, List<RoutingRequest.Point>> dayPoints,
+                                                                        RoutingRequest options) {
+        List<CompletableFuture<RouteDaysRoutingResponse.Day>> futures = new ArrayList<>(dayPoints.size());
+        dayPoints.forEach((dayIndex, points) -> {
+            RouteDaysRoutingResponse.Day day = new RouteDaysRoutingResponse.Day();
+            day.setDayIndex(dayIndex);
+            day.setStopCount(points.size());
+            if (points.size() < 2) {
+                futures.add(CompletableFuture.completedFuture(day));
+                return;
             }
 
-            JsonNode bestRoute = null;
-            int bestDistance = Integer.MAX_VALUE;
-
-            for (JsonNode routeNode : routesNode) {
-                JsonNode summaryNode = routeNode.path("summary");
-                int dist = summaryNode.path("distance").asInt(Integer.MAX_VALUE);
-                if (dist < bestDistance) {
-                    bestDistance = dist;
-                    bestRoute = routeNode;
+            RoutingRequest request = new RoutingRequest();
+            request.setPoints(points);
+            request.setTspTimeBudgetMs(options.getTspTimeBudgetMs());
+            request.setSimplifyToleranceMeters(options.getSimplifyToleranceMeters());
+            request.setZoom(options.getZoom());
+            request.setEncoding(options.getEncoding());
+
+            futures.add(getRouteAsync(request).handle((route, e) -> {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    day.setError(cause.getMessage());
+                } else {
+                    day.setRoute(route);
                 }
-            }
-
-            if (bestRoute == null) {
-                throw new RuntimeException("Naver Direction: 유효한 경로를 찾지 못했습니다.");
-            }
+                return day;
+            }));
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    RouteDaysRoutingResponse res = new RouteDaysRoutingResponse();
+                    res.setRouteId(routeId);
+                    res.setDays(futures.stream().map(CompletableFuture::join).toList());
+                    return res;
+                });
+    }
 
-            JsonNode summary = bestRoute.path("summary");
-            int distance = summary.path("distance").asInt();
-            int durationMs = summary.path("duration").asInt();
-
-            // ✅ 4. path → polyline
-            List<RoutingResponse.LatLng> polyline = new ArrayList<>();
-            for (JsonNode p : bestRoute.path("path")) {
-                double lng = p.get(0).asDouble();
-                double lat = p.get(1).asDouble();
-                RoutingResponse.LatLng latLng = new RoutingResponse.LatLng();
-                latLng.setLat(lat);
-                latLng.setLng(lng);
-                polyline.add(latLng);
-            }
+    /**
+     * 주어진 순서 그대로의 길찾기 (TSP 없이, 캐시 적용)
+     *  - 사용자가 정한 순서를 보존해야 하는 저장 경로 계산용
+     *  - 반환 객체는 캐시와 공유되므로 수정하지 말 것
+     */
+    public RoutingResponse getDirectionInOrder(List<RoutingRequest.Point> points) {
+        checkPoints(points);
+        return timed("in-order", () -> directionCache.getOrLoad(points, () -> naverDirectionClient.getDirection(points)));
+    }
 
-            RoutingResponse res = new RoutingResponse();
-            res.setTotalDistanceMeters(distance);
-            res.setTotalDurationSeconds(durationMs / 1000);
-            res.setPolyline(polyline);
+    /**
+     * routing.requests{endpoint, outcome=success|approximate|error}
+     *  - 캐시 / 요청 합치기 대기를 포함한 서비스 단 지연 시간 (네이버 호출 자체는 upstream.requests)
+     */
+    private RoutingResponse timed(String endpoint, Supplier<RoutingResponse> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            RoutingResponse res = call.get();
+            outcome = res.isApproximate() ? "approximate" : "success";
             return res;
-
-        } catch (HttpClientErrorException e) {
-            System.out.println("[NAVER ERROR] " + e.getStatusCode());
-            System.out.println(e.getResponseBodyAsString());
-            throw new RuntimeException("네이버 길찾기 API 호출 실패: " + e.getStatusCode());
-        } catch (Exception e) {
-            throw new RuntimeException("네이버 길찾기 처리 중 오류", e);
+        } finally {
+            stopTimer(sample, endpoint, outcome);
         }
     }
 
+    private CompletableFuture<RoutingResponse> timedAsync(String endpoint,
+                                                          Supplier<CompletableFuture<RoutingResponse>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return call.get().whenComplete((res, e) -> stopTimer(sample, endpoint,
+                e != null ? "error" : res.isApproximate() ? "approximate" : "success"));
+    }
 
-    private List<RoutingRequest.Point> optimizeExactTspPath(List<RoutingRequest.Point> original) {
-        int n = original.size();
-        if (n <= 2)
-            return original;
-
-        double[][] dist = buildDistanceMatrix(original);
+    private void stopTimer(Timer.Sample sample, String endpoint, String outcome) {
+        sample.stop(Timer.builder("routing.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
 
-        int FULL = 1 << n;
-        double INF = 1e18;
+    private static void checkPoints(List<RoutingRequest.Point> points) {
+        if (points == null || points.size() < 2) {
+            throw new IllegalArgumentException("최소 2개 이상의 좌표가 필요합니다.");
+        }
+    }
 
-        double[][] dp = new double[FULL][n];
-        int[][] parent = new int[FULL][n];
+    private RoutingResponse computeRoute(RoutingRequest request) {
+        TspResult tsp = optimizeOrder(request);
+        List<RoutingRequest.Point> points = reorder(request.getPoints(), tsp.order());
 
-        for (int m = 0; m < FULL; m++) {
-            Arrays.fill(dp[m], INF);
-            Arrays.fill(parent[m], -1);
+        // 같은 방문 순서면 네이버 호출 없이 캐시에서 (캐시 객체는 공유되므로 복사해서 응답)
+        RoutingResponse direction;
+        try {
+            direction = directionCache.getOrLoad(points, () -> naverDirectionClient.getDirection(points));
+        } catch (UpstreamUnavailableException e) {
+            direction = fallback(points, e);
         }
+        return toResponse(request, tsp, direction);
+    }
 
-        int start = 0;
-        int end = n - 1;
+    // computeRoute 와 같은 단계, TSP 는 워커 스레드에서 하고 길찾기 캐시는 비동기로
+    private CompletableFuture<RoutingResponse> computeRouteAsync(RoutingRequest request) {
+        return CompletableFuture.supplyAsync(() -> optimizeOrder(request), routingExecutor)
+                .thenCompose(tsp -> {
+                    List<RoutingRequest.Point> points = reorder(request.getPoints(), tsp.order());
+                    return directionCache
+                            .getOrLoadAsync(points, () -> naverDirectionClient.getDirection(points), routingExecutor)
+                            .exceptionally(e -> {
+                                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                                if (cause instanceof UpstreamUnavailableException unavailable) {
+                                    return fallback(points, unavailable);
+                                }
+                                throw e instanceof CompletionException ce ? ce : new CompletionException(cause);
+                            })
+                            .thenApply(direction -> toResponse(request, tsp, direction));
+                });
+    }
 
-        // 시작점만 방문했을 때, 위치 = start
-        dp[1 << start][start] = 0.0;
+    // 같은 입력이면 이전 방문 순서를 그대로 (휴리스틱 솔버는 시간 예산을 다 쓰므로 캐시 적중 시 건너뜀)
+    private TspResult optimizeOrder(RoutingRequest request) {
+        List<RoutingRequest.Point> original = request.getPoints();
+        TspResult tsp = directionCache.getOrder(original, request.getTspTimeBudgetMs());
+        if (tsp == null) {
+            tsp = tspOptimizer.optimize(costMatrixProvider.build(original), request.getTspTimeBudgetMs());
+            meterRegistry.timer("routing.tsp", "solver", tsp.solver())
+                    .record(Math.round(tsp.elapsedMs() * 1_000_000), TimeUnit.NANOSECONDS);
+            directionCache.putOrder(original, request.getTspTimeBudgetMs(), tsp);
+        }
+        return tsp;
+    }
 
-        for (int mask = 0; mask < FULL; mask++) {
-            // 시작점이 포함되지 않은 상태는 무시
-            if ((mask & (1 << start)) == 0) continue;
+    // 근사 결과는 캐시하지 않음 (loader 예외라 DirectionCache 에 저장되지 않음)
+    private RoutingResponse fallback(List<RoutingRequest.Point> points, UpstreamUnavailableException e) {
+        log.warn("네이버 길찾기 사용 불가, 직선 경로로 대체: {}", e.getMessage());
+        return straightLine(points);
+    }
 
-            for (int u = 0; u < n; u++) {
-                if (dp[mask][u] >= INF) continue;
-                // 아직 방문 안 한 v로 이동
-                for (int v = 0; v < n; v++) {
-                    if ((mask & (1 << v)) != 0) continue; // 이미 방문한 곳
+    private RoutingResponse toResponse(RoutingRequest request, TspResult tsp, RoutingResponse direction) {
+        RoutingResponse res = new RoutingResponse();
+        res.setTotalDistanceMeters(direction.getTotalDistanceMeters());
+        res.setTotalDurationSeconds(direction.getTotalDurationSeconds());
+        applyGeometry(request, direction.getPolyline(), res);
+        res.setSolver(tsp.solver());
+        res.setSolverElapsedMs(tsp.elapsedMs());
+        res.setApproximate(direction.isApproximate());
+        return res;
+    }
 
-                    double nd = dp[mask][u] + dist[u][v];
-                    int nmask = mask | (1 << v);
-                    if (nd < dp[nmask][v]) {
-                        dp[nmask][v] = nd;
-                        parent[nmask][v] = u;
-                    }
-                }
+    // 최적화된 방문 순서를 직선으로 이은 근사 경로
+    private RoutingResponse straightLine(List<RoutingRequest.Point> points) {
+        GeoPath.Builder polyline = GeoPath.builder(points.size());
+        double km = 0;
+        for (int i = 0; i < points.size(); i++) {
+            RoutingRequest.Point p = points.get(i);
+            polyline.add(p.getLat(), p.getLng());
+            if (i > 0) {
+                RoutingRequest.Point prev = points.get(i - 1);
+                km += GeoDistanceCalculator.haversineKm(prev.getLat(), prev.getLng(), p.getLat(), p.getLng());
             }
         }
 
-        int all = FULL - 1;
-        double best = dp[all][end];
-        if (best >= INF) {
-            return original;
-        }
+        RoutingResponse res = new RoutingResponse();
+        res.setTotalDistanceMeters(km * 1000);
+        res.setTotalDurationSeconds((int) Math.round(km * fallbackRoadFactor / fallbackSpeedKmh * 3600));
+        res.setPolyline(polyline.build());
+        res.setApproximate(true);
+        return res;
+    }
 
-        List<Integer> orderIdx = new ArrayList<>();
-        int cur = end;
-        int mask = all;
-        while (cur != -1) {
-            orderIdx.add(cur);
-            int p = parent[mask][cur];
-            mask &= ~(1 << cur);
-            cur = p;
+    // 단순화(선택) 후 요청한 형식으로 경로 기록
+    private void applyGeometry(RoutingRequest request, GeoPath path, RoutingResponse res) {
+        if (path != null && !path.isEmpty()) {
+            Double tolerance = request.getSimplifyToleranceMeters();
+            if (tolerance == null && request.getZoom() != null) {
+                tolerance = PolylineSimplifier.toleranceForZoom(request.getZoom(), path.lat(0));
+            }
+            if (tolerance != null && tolerance > 0) {
+                path = PolylineSimplifier.simplify(path, tolerance);
+            }
         }
-        Collections.reverse(orderIdx);
 
-        List<RoutingRequest.Point> ordered = new ArrayList<>();
-        for (int idx : orderIdx) {
-            ordered.add(original.get(idx));
+        String encoding = request.getEncoding();
+        if (encoding == null || encoding.isBlank() || "latlng".equalsIgnoreCase(encoding)) {
+            res.setPolyline(path);
+        } else if ("polyline".equalsIgnoreCase(encoding)) {
+            res.setEncodedPolyline(path == null ? "" : PolylineEncoder.encode(path));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 encoding 입니다: " + encoding);
         }
-        return ordered;
     }
 
-    // 직선 거리 저장
-    private double[][] buildDistanceMatrix(List<RoutingRequest.Point> pts) {
-        int n = pts.size();
-        double[][] dist = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (i == j) {
-                    dist[i][j] = 0;
-                } else {
-                    dist[i][j] = haversine(
-                            pts.get(i).getLat(), pts.get(i).getLng(),
-                            pts.get(j).getLat(), pts.get(j).getLng()
-                    );
-                }
-            }
+    /**
+     * 정규화한 요청 키
+     *  - 출발 / 도착은 그대로, 중간 경유지는 TSP 가 순서를 다시 정하므로 정렬 (같은 집합이면 같은 키)
+     *  - 좌표는 1e-5도 단위로 양자화, 결과에 영향을 주는 옵션 포함
+     */
+    static String coalescingKey(RoutingRequest request) {
+        List<RoutingRequest.Point> points = request.getPoints();
+        int last = points.size() - 1;
+
+        List<String> middles = new ArrayList<>(Math.max(0, last - 1));
+        for (int i = 1; i < last; i++) {
+            middles.add(quantize(points.get(i)));
         }
-        return dist;
+        middles.sort(null);
+
+        String encoding = request.getEncoding() == null ? "" : request.getEncoding().toLowerCase(Locale.ROOT);
+        return quantize(points.get(0))
+                + ">" + String.join("|", middles)
+                + ">" + quantize(points.get(last))
+                + "#" + request.getTspTimeBudgetMs()
+                + "#" + request.getSimplifyToleranceMeters()
+                + "#" + request.getZoom()
+                + "#" + encoding;
     }
 
-    // 직선 거리
-    private double haversine(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371.0; // km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    private static String quantize(RoutingRequest.Point p) {
+        return Math.round(p.getLat() * 1e5) + "," + Math.round(p.getLng() * 1e5);
+    }
 
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+    private List<RoutingRequest.Point> reorder(List<RoutingRequest.Point> original, int[] order) {
+        List<RoutingRequest.Point> ordered = new ArrayList<>(order.length);
+        for (int idx : order) {
+            ordered.add(original.get(idx));
+        }
+        return ordered;
     }
 }
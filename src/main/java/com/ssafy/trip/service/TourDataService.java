@@ -1,20 +1,29 @@
 package com.ssafy.trip.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.ssafy.trip.client.TourApiParser;
+import com.ssafy.trip.client.UpstreamMetrics;
 import com.ssafy.trip.domain.Attraction;
-import com.ssafy.trip.repository.AttractionRepository;
+import com.ssafy.trip.domain.TourSyncCheckpoint;
+import com.ssafy.trip.repository.TourSyncCheckpointRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 // com.ssafy.trip.service.TourDataSyncService
 @Service
@@ -22,10 +31,13 @@ import java.util.*;
 @Slf4j
 public class TourDataService {
 
-    private final AttractionRepository attractionRepository;
+    private final AttractionBulkWriter attractionBulkWriter;
+    private final TourSyncCheckpointRepository checkpointRepository;
+    @Qualifier("tourRestTemplate")
     private final RestTemplate restTemplate;
+    private final UpstreamMetrics upstreamMetrics;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TourApiParser tourApiParser = new TourApiParser(new JsonFactory());
 
     @Value("${tour.api.base-url}")
     private String baseUrl;
@@ -33,85 +45,339 @@ public class TourDataService {
     @Value("${tour.api.service-key}")
     private String serviceKey;
 
+    // 페이지 크기 / 동시에 가져올 페이지 수 / 초당 최대 요청 수 / 저장 대기 중인 페이지 한도 / 페이지별 재시도
+    @Value("${tour.sync.page-size:1000}")
+    private int pageSize;
+
+    @Value("${tour.sync.parallelism:4}")
+    private int syncParallelism;
+
+    @Value("${tour.sync.max-requests-per-second:5}")
+    private double maxRequestsPerSecond;
+
+    @Value("${tour.sync.queue-capacity:4}")
+    private int syncQueueCapacity;
+
+    @Value("${tour.sync.max-retries:2}")
+    private int maxRetries;
+
+    // 변경분 동기화 기준일이 이보다 오래되면 하루씩 조회하지 않고 전체 목록으로
+    @Value("${tour.sync.delta-max-days:31}")
+    private int deltaMaxDays;
+
+    // 이 행 수만큼 모이면 한 트랜잭션으로 upsert
+    @Value("${tour.sync.write-chunk-size:5000}")
+    private int writeChunkSize;
+
+    private static final String CHECKPOINT_NAME = "attractions";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    public enum SyncMode {
+        FULL,   // 전체 목록
+        DELTA   // 마지막 성공 이후 수정된 관광지만 (Tour API modifiedtime 조건)
+    }
+
+    private final AtomicBoolean syncing = new AtomicBoolean();
+
+    // error 가 있으면 재시도 후에도 실패한 페이지
+    // items: 좌표가 있는 관광지만
+    private record TourPage(int pageNo, int totalCount, List<Attraction> items, Throwable error) {}
+
     /**
-     * 공공데이터 API 전체 페이지를 돌면서 attractions 테이블을 갱신
+     * - 첫 페이지의 totalCount 로 전체 페이지 수를 구한 뒤 나머지 페이지를 sync.parallelism 개씩 동시에 요청
+     * - 요청 간격은 max-requests-per-second 로 제한 (API 호출 한도)
+     * - 조회 + 파싱은 fetch 스레드, 저장은 호출 스레드에서 (파이프라인)
+     *   저장이 밀리면 대기 큐(queue-capacity)가 차서 fetch 스레드도 멈춤 → 메모리에 쌓이는 페이지 수 제한
+     * - 저장은 write-chunk-size 행씩 모아 content_id 기준 upsert (이미 있는 관광지는 최신 값으로 갱신)
+     * - 저장이 끝난 페이지는 tour_sync_checkpoint 에 기록, 중단되거나 실패한 실행은 같은 모드로 다시 부르면
+     *   처음부터 빈틈없이 저장된 페이지 다음부터 이어서 수행
+     * - 호출 스레드를 인터럽트하면 중단 (저장 완료된 페이지까지는 checkpoint 에 남음)
      */
-    public void syncAllAttractions() {
-        int pageNo = 1;
-        int pageSize = 1000;
-        int total = 0;
-
-        while (true) {
-            List<Map<String, Object>> items = callTourApi(pageNo, pageSize);
-            if (items.isEmpty()) break;
-
-            for (Map<String, Object> item : items) {
-                try {
-                    saveNewAttraction(item);   // 여기서 UNIQUE 위반 나면 catch 쪽으로
-                    total++;
-                } catch (DataIntegrityViolationException e) {
-                    log.warn("중복 contentId={}, 건너뜀", item.get("contentid"));
-                }
-            }
+    public void sync(SyncMode mode, TourSyncProgress progress) {
+        if (!syncing.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 관광지 동기화가 진행 중입니다.");
+        }
+        try {
+            syncPages(mode, progress);
+        } finally {
+            syncing.set(false);
+        }
+    }
 
-            pageNo++;
+    /**
+     * Tour API 의 modifiedtime 은 "이후" 가 아니라 수정일 접두어 일치 (YYYY / YYYYMM / YYYYMMDD)
+     * → 변경분 동기화는 기준일부터 오늘까지 하루씩 조회 (runFrom = 지금 조회 중인 날짜)
+     *   하루가 끝까지 성공해야 다음 날로 넘어가고, 실패하면 그 날짜 / 페이지에서 이어서
+     */
+    private void syncPages(SyncMode mode, TourSyncProgress progress) {
+        long started = System.currentTimeMillis();
+        SyncRun run = new SyncRun(startOrResume(mode), progress);
+        RequestPacer pacer = new RequestPacer(maxRequestsPerSecond);
+        String lastDay = run.checkpoint.getRunStartedDate();
+
+        List<Integer> failedPages = syncQuery(run, mode, pacer);
+        while (failedPages.isEmpty() && run.checkpoint.getRunFrom() != null
+                && run.checkpoint.getRunFrom().compareTo(lastDay) < 0) {
+            run.nextDay();
+            failedPages = syncQuery(run, mode, pacer);
         }
+        run.finish(failedPages);
 
-        log.info("sync done. totalInserted={}", total);
+        if (!failedPages.isEmpty()) {
+            failedPages.sort(null);
+            log.warn("관광지 동기화 중 실패한 페이지 {} (다음 실행에서 from={}, page={} 부터 이어서)",
+                    failedPages, run.checkpoint.getRunFrom(), run.checkpoint.getNextPage());
+        }
+        log.info("sync done. mode={}, totalUpserted={}, failedPages={}, elapsedMs={}",
+                mode, run.written, failedPages.size(), System.currentTimeMillis() - started);
     }
 
-    private List<Map<String, Object>> callTourApi(int pageNo, int pageSize) {
-        List<Map<String, Object>> list = new ArrayList<>();
-
+    /**
+     * 현재 조회 조건(runFrom) 의 nextPage ~ 마지막 페이지
+     * @return 재시도 후에도 실패한 페이지
+     */
+    private List<Integer> syncQuery(SyncRun run, SyncMode mode, RequestPacer pacer) {
+        String from = run.checkpoint.getRunFrom();
+        int startPage = run.checkpoint.getNextPage();
+
+        TourPage first = fetchPage(startPage, from, pacer);
+        if (first.error() != null) {
+            run.progress.pageFailed();
+            run.finish(List.of(startPage));
+            throw new IllegalStateException("Tour API 첫 페이지 조회에 실패했습니다.", first.error());
+        }
+        int totalPages = (int) Math.ceil((double) first.totalCount() / pageSize);
+        run.checkpoint.setTotalPages(totalPages);
+        run.progress.addPages(Math.max(1, totalPages - startPage + 1));
+        log.info("관광지 동기화 mode={}, from={}, totalCount={}, pages={}~{}",
+                mode, from, first.totalCount(), startPage, totalPages);
+
+        run.buffer(first);
+        List<Integer> failedPages = new ArrayList<>();
+
+        BlockingQueue<TourPage> fetched = new ArrayBlockingQueue<>(Math.max(1, syncQueueCapacity));
+        ExecutorService fetchers = Executors.newFixedThreadPool(
+                Math.max(1, syncParallelism), new CustomizableThreadFactory("tour-sync-"));
         try {
-            String url = UriComponentsBuilder
-                    .fromHttpUrl(baseUrl)
-                    .queryParam("serviceKey", serviceKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "TourApp")
-                    .queryParam("numOfRows", pageSize)
-                    .queryParam("pageNo", pageNo)
-                    .queryParam("_type", "json")
-                    .toUriString();
-
-            String response = restTemplate.getForObject(url, String.class);
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("response").path("body").path("items").path("item");
-
-            if (items.isArray()) {
-                for (JsonNode item : items) {
-                    double lat = item.path("mapy").asDouble(0);
-                    double lng = item.path("mapx").asDouble(0);
-                    if (lat == 0 || lng == 0) continue; // 좌표 없는 건 스킵
-
-                    Map<String, Object> map = new HashMap<>();
-
-                    map.put("contentid", item.path("contentid").asLong());
-                    map.put("title", item.path("title").asText("무제"));
-                    map.put("addr1", item.path("addr1").asText(""));
-                    map.put("addr2", item.path("addr2").asText(""));
-                    map.put("sido", item.path("sido").asText(""));
-                    map.put("gugun", item.path("gugun").asText(""));
-
-                    map.put("mapy", lat);
-                    map.put("mapx", lng);
-
-                    if (!item.path("contenttypeid").isMissingNode()) {
-                        map.put("contenttypeid", item.path("contenttypeid").asInt());
+            for (int pageNo = startPage + 1; pageNo <= totalPages; pageNo++) {
+                int page = pageNo;
+                fetchers.execute(() -> {
+                    TourPage result;
+                    try {
+                        result = fetchPage(page, from, pacer);
+                    } catch (Throwable t) {
+                        // Error(OOM, StackOverflow 등)도 실패 페이지로 넘김
+                        // → 결과가 빠지면 아래 take() 가 끝없이 기다리고 클러스터 동기화 잠금도 계속 연장됨
+                        log.error("Tour API 페이지 처리 중 오류 pageNo={}", page, t);
+                        result = new TourPage(page, 0, List.of(), t);
                     }
+                    try {
+                        fetched.put(result);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // 페이지마다 결과가 정확히 하나씩 들어옴 (실패 포함), 도착 순서대로 저장
+            for (int i = startPage + 1; i <= totalPages; i++) {
+                TourPage page = fetched.take();
+                if (page.error() != null) {
+                    failedPages.add(page.pageNo());
+                    run.progress.pageFailed();
+                    continue;
+                }
+                run.buffer(page);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 저장 완료된 페이지까지는 checkpoint 에 남아 있으므로 다음 실행에서 이어서
+            throw new IllegalStateException("관광지 동기화가 중단되었습니다.", e);
+        } finally {
+            fetchers.shutdownNow();
+        }
+        run.flush();
+        return failedPages;
+    }
+
+    // 같은 모드의 끝나지 않은 실행이 있으면 이어서, 아니면 새 실행
+    private TourSyncCheckpoint startOrResume(SyncMode mode) {
+        TourSyncCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME)
+                .orElseGet(() -> TourSyncCheckpoint.builder().syncName(CHECKPOINT_NAME).build());
+
+        boolean resumable = checkpoint.getStatus() != null
+                && checkpoint.getStatus() != TourSyncCheckpoint.Status.COMPLETED
+                && mode.name().equals(checkpoint.getRunMode())
+                && checkpoint.getNextPage() != null;
+        if (resumable) {
+            log.info("이전 관광지 동기화를 이어서 수행 mode={}, page={}", mode, checkpoint.getNextPage());
+        } else {
+            LocalDate today = LocalDate.now(KST);
+            String from = mode == SyncMode.DELTA ? checkpoint.getWatermark() : null;
+            if (mode == SyncMode.DELTA && from == null) {
+                log.info("변경분 기준일이 없어 전체 목록으로 동기화");
+            } else if (from != null && LocalDate.parse(from, DateTimeFormatter.BASIC_ISO_DATE)
+                    .isBefore(today.minusDays(deltaMaxDays))) {
+                // 하루씩 조회하는 것보다 전체 목록이 빠른 경우
+                log.info("변경분 기준일 {} 이 {}일보다 오래되어 전체 목록으로 동기화", from, deltaMaxDays);
+                from = null;
+            }
+            checkpoint.setRunMode(mode.name());
+            checkpoint.setRunFrom(from);
+            checkpoint.setRunStartedDate(today.format(DateTimeFormatter.BASIC_ISO_DATE));
+            checkpoint.setNextPage(1);
+            checkpoint.setTotalPages(null);
+        }
+        checkpoint.setStatus(TourSyncCheckpoint.Status.RUNNING);
+        checkpointRepository.save(checkpoint);
+        return checkpoint;
+    }
 
-                    map.put("firstimage", item.path("firstimage").asText(""));
-                    map.put("tel", item.path("tel").asText(""));
+    /**
+     * 한 번의 동기화 실행 상태
+     *  - 페이지는 도착 순서가 뒤섞이므로 저장이 끝난 페이지 번호를 모아 두고,
+     *    nextPage 부터 빈틈없이 이어지는 만큼만 checkpoint 를 전진
+     */
+    private final class SyncRun {
+        private final TourSyncCheckpoint checkpoint;
+        private final TourSyncProgress progress;
+        private final List<Attraction> pending = new ArrayList<>(writeChunkSize);
+        private final List<Integer> bufferedPages = new ArrayList<>();
+        private final Set<Integer> committedPages = new HashSet<>();
+        private int written;
+
+        SyncRun(TourSyncCheckpoint checkpoint, TourSyncProgress progress) {
+            this.checkpoint = checkpoint;
+            this.progress = progress;
+        }
 
-                    list.add(map);
+        // pending 에 쌓고 chunk 크기가 되면 저장
+        void buffer(TourPage page) {
+            pending.addAll(page.items());
+            bufferedPages.add(page.pageNo());
+            progress.pageDone();
+            if (pending.size() >= writeChunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                int rows = attractionBulkWriter.upsert(pending);
+                written += rows;
+                progress.rowsWritten(rows);
+                pending.clear();
+            }
+            committedPages.addAll(bufferedPages);
+            bufferedPages.clear();
+
+            int next = checkpoint.getNextPage();
+            while (committedPages.remove(next)) {
+                next++;
+            }
+            if (next != checkpoint.getNextPage()) {
+                checkpoint.setNextPage(next);
+                checkpointRepository.save(checkpoint);
+            }
+        }
+
+        // 현재 날짜를 끝까지 저장한 뒤 다음 수정일 조회로
+        void nextDay() {
+            String next = LocalDate.parse(checkpoint.getRunFrom(), DateTimeFormatter.BASIC_ISO_DATE)
+                    .plusDays(1)
+                    .format(DateTimeFormatter.BASIC_ISO_DATE);
+            committedPages.clear();
+            checkpoint.setRunFrom(next);
+            checkpoint.setNextPage(1);
+            checkpoint.setTotalPages(null);
+            checkpointRepository.save(checkpoint);
+        }
+
+        // 모든 페이지 성공 → watermark 전진, 실패 페이지가 있으면 nextPage 를 남겨 다음 실행에서 이어서
+        void finish(List<Integer> failedPages) {
+            if (failedPages.isEmpty()) {
+                checkpoint.setStatus(TourSyncCheckpoint.Status.COMPLETED);
+                checkpoint.setWatermark(checkpoint.getRunStartedDate());
+                checkpoint.setNextPage(null);
+            } else {
+                checkpoint.setStatus(TourSyncCheckpoint.Status.FAILED);
+            }
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    // 실패 시 max-retries 번까지 간격을 늘려 재시도
+    private TourPage fetchPage(int pageNo, String modifiedFrom, RequestPacer pacer) {
+        Exception last = null;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                if (attempt > 0) {
+                    Thread.sleep(500L * attempt);
                 }
+                pacer.acquire();
+                return callTourApi(pageNo, pageSize, modifiedFrom);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new TourPage(pageNo, 0, List.of(), e);
+            } catch (Exception e) {
+                last = e;
+                log.warn("Tour API 호출/파싱 실패 pageNo={}, attempt={}: {}", pageNo, attempt + 1, e.getMessage());
             }
-        } catch (Exception e) {
-            log.error("Tour API 호출/파싱 실패 pageNo={}", pageNo, e);
         }
+        return new TourPage(pageNo, 0, List.of(), last);
+    }
+
+    /**
+     * @param modifiedFrom yyyyMMdd, 지정하면 이 날짜에 수정된 관광지만 (null 이면 전체)
+     */
+    private TourPage callTourApi(int pageNo, int pageSize, String modifiedFrom) throws Exception {
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromHttpUrl(baseUrl)
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TourApp")
+                .queryParam("numOfRows", pageSize)
+                .queryParam("pageNo", pageNo)
+                .queryParam("_type", "json");
+        if (modifiedFrom != null) {
+            builder.queryParam("modifiedtime", modifiedFrom);
+        }
+        String url = builder.toUriString();
+
+        // 본문을 String / JsonNode / 항목별 Map 으로 만들지 않고 입력 스트림에서 바로 Attraction 으로 변환
+        TourApiParser.Result result = upstreamMetrics.record("tour", "attractions", () -> restTemplate.execute(
+                url,
+                HttpMethod.GET,
+                null,
+                response -> tourApiParser.parse(response.getBody())
+        ));
 
-        return list;
+        return new TourPage(pageNo, result.totalCount(), result.items(), null);
+    }
+
+    /**
+     * 요청 사이 최소 간격(1 / 초당 요청 수)을 지키도록 호출 시각을 예약 (fetch 스레드끼리 공유)
+     */
+    private static final class RequestPacer {
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RequestPacer(double requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond <= 0 ? 0 : (long) (1_000_000_000L / requestsPerSecond);
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
     }
 
 //    private void saveOrUpdateAttraction(Map<String, Object> item) {
@@ -145,34 +411,4 @@ public class TourDataService {
 //
 //        attractionRepository.save(attraction);
 //    }
-
-    private void saveNewAttraction(Map<String, Object> item) {
-        Attraction attraction = new Attraction();
-
-        attraction.setContentId(
-                Long.parseLong(item.get("contentid").toString())
-        );
-
-        // 문자열 필드들
-        attraction.setTitle((String) item.get("title"));
-        attraction.setAddr1((String) item.get("addr1"));
-        attraction.setAddr2((String) item.get("addr2"));
-        attraction.setSido((String) item.get("sido"));
-        attraction.setGugun((String) item.get("gugun"));
-
-        double mapY = Double.parseDouble(item.get("mapy").toString());
-        double mapX = Double.parseDouble(item.get("mapx").toString());
-        attraction.setLatitude(mapY);
-        attraction.setLongitude(mapX);
-
-        Object ctype = item.get("contenttypeid");
-        if (ctype != null) {
-            attraction.setContentTypeId(Integer.parseInt(ctype.toString()));
-        }
-
-        attraction.setImageUrl(Objects.toString(item.get("firstimage"), ""));
-        attraction.setTel(Objects.toString(item.get("tel"), ""));
-
-        attractionRepository.save(attraction);
-    }
 }
@@ -0,0 +1,95 @@
+package com.ssafy.trip.service;
+
+import java.time.Instant;
+
+/**
+ * 백그라운드 관광지 동기화 작업 하나
+ */
+public class TourSyncJob {
+
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED
+    }
+
+    private final String id;
+    private final TourDataService.SyncMode mode;
+    private final TourSyncProgress progress = new TourSyncProgress();
+    private final Instant startedAt = Instant.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile Thread runner;
+
+    TourSyncJob(String id, TourDataService.SyncMode mode) {
+        this.id = id;
+        this.mode = mode;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public TourDataService.SyncMode mode() {
+        return mode;
+    }
+
+    public TourSyncProgress progress() {
+        return progress;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public Instant finishedAt() {
+        return finishedAt;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    /** 시작부터 (끝났으면 종료 시각까지) 경과 초 */
+    public double elapsedSeconds() {
+        Instant end = finishedAt == null ? Instant.now() : finishedAt;
+        return Math.max(0, end.toEpochMilli() - startedAt.toEpochMilli()) / 1000.0;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    // 동기화 스레드를 인터럽트 → 대기 중인 페이지 수신이 끊기고 저장 완료 페이지까지 checkpoint 에 남음
+    void cancel(String reason) {
+        cancelRequested = true;
+        if (error == null) {
+            error = reason;
+        }
+        Thread t = runner;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    void attach(Thread thread) {
+        runner = thread;
+    }
+
+    void finish(Status status, String error) {
+        runner = null;
+        if (error != null && this.error == null) {
+            this.error = error;
+        }
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
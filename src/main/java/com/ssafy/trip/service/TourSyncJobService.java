@@ -0,0 +1,166 @@
+package com.ssafy.trip.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 관광지 동기화를 백그라운드 작업으로 실행
+ *  - 요청 스레드는 작업 id 만 받고 바로 반환, 진행 상황은 id 로 조회
+ *  - Redis 잠금으로 클러스터 전체에서 한 노드만 실행, 실행 중에는 TTL 의 1/3 마다 잠금 연장
+ *    연장에 실패하면(잠금을 잃으면) 다른 노드와 겹치지 않도록 작업을 중단
+ *  - 작업 목록은 실행한 노드의 메모리에만 보관 (최근 job-history 개)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourSyncJobService {
+
+    private static final String LOCK_KEY = "lock:tour-sync";
+
+    private final TourDataService tourDataService;
+    private final DistributedLockService lockService;
+
+    @Value("${tour.sync.lock-ttl-ms:60000}")
+    private long lockTtlMs;
+
+    @Value("${tour.sync.job-history:20}")
+    private int jobHistory;
+
+    // 최근 작업 (오래된 것부터 제거)
+    private final Map<String, TourSyncJob> jobs = new LinkedHashMap<>();
+
+    private ExecutorService jobExecutor;
+    private ScheduledExecutorService lockRenewer;
+
+    @PostConstruct
+    void init() {
+        jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("tour-sync-job-"));
+        lockRenewer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("tour-sync-lock-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (jobs) {
+            jobs.values().forEach(job -> job.cancel("서버 종료로 중단되었습니다."));
+        }
+        jobExecutor.shutdownNow();
+        lockRenewer.shutdownNow();
+    }
+
+    /**
+     * @throws IllegalStateException 다른 노드(또는 이 노드)에서 이미 동기화 중
+     */
+    public TourSyncJob submit(TourDataService.SyncMode mode) {
+        Duration ttl = Duration.ofMillis(lockTtlMs);
+        String token = lockService.tryLock(LOCK_KEY, ttl);
+        if (token == null) {
+            throw new IllegalStateException("이미 관광지 동기화가 진행 중입니다.");
+        }
+
+        TourSyncJob job = new TourSyncJob(UUID.randomUUID().toString(), mode);
+        try {
+            jobExecutor.execute(() -> run(job, token, ttl));
+        } catch (RejectedExecutionException e) {
+            lockService.unlock(LOCK_KEY, token);
+            throw new IllegalStateException("관광지 동기화 작업을 시작할 수 없습니다.", e);
+        }
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+            Iterator<TourSyncJob> it = jobs.values().iterator();
+            while (jobs.size() > jobHistory && it.hasNext()) {
+                if (it.next().status() != TourSyncJob.Status.RUNNING) {
+                    it.remove();
+                }
+            }
+        }
+        log.info("관광지 동기화 작업 시작 jobId={}, mode={}", job.id(), mode);
+        return job;
+    }
+
+    public Optional<TourSyncJob> find(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    /** 최근 작업부터 */
+    public List<TourSyncJob> recent() {
+        synchronized (jobs) {
+            List<TourSyncJob> list = new ArrayList<>(jobs.values());
+            Collections.reverse(list);
+            return list;
+        }
+    }
+
+    /**
+     * @return 실행 중인 작업에 중단을 요청했으면 true
+     */
+    public boolean cancel(String jobId) {
+        TourSyncJob job = find(jobId).orElse(null);
+        if (job == null || job.status() != TourSyncJob.Status.RUNNING) {
+            return false;
+        }
+        job.cancel("사용자 요청으로 중단되었습니다.");
+        return true;
+    }
+
+    private void run(TourSyncJob job, String token, Duration ttl) {
+        job.attach(Thread.currentThread());
+        long renewEveryMs = Math.max(1000, ttl.toMillis() / 3);
+        ScheduledFuture<?> renewal = lockRenewer.scheduleAtFixedRate(() -> {
+            try {
+                if (!lockService.extend(LOCK_KEY, token, ttl)) {
+                    log.error("관광지 동기화 잠금을 잃어 작업을 중단 jobId={}", job.id());
+                    job.cancel("동기화 잠금이 만료되어 중단되었습니다.");
+                }
+            } catch (Exception e) {
+                // 일시적 Redis 오류면 다음 주기에 다시 시도 (그 사이 TTL 이 지나면 위에서 중단)
+                log.warn("관광지 동기화 잠금 연장 실패 jobId={}", job.id(), e);
+            }
+        }, renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+
+        try {
+            if (job.isCancelRequested()) {
+                job.finish(TourSyncJob.Status.CANCELLED, null);
+                return;
+            }
+            tourDataService.sync(job.mode(), job.progress());
+            int failedPages = job.progress().failedPages();
+            if (failedPages > 0) {
+                // checkpoint 도 FAILED → 같은 mode 로 다시 시작하면 실패한 페이지부터 이어서
+                job.finish(TourSyncJob.Status.FAILED,
+                        "실패한 페이지 " + failedPages + "개, 다시 시작하면 이어서 수행합니다.");
+                log.warn("관광지 동기화 작업 일부 실패 jobId={}, failedPages={}", job.id(), failedPages);
+            } else {
+                job.finish(TourSyncJob.Status.SUCCEEDED, null);
+            }
+        } catch (RuntimeException e) {
+            if (job.isCancelRequested()) {
+                job.finish(TourSyncJob.Status.CANCELLED, null);
+                log.info("관광지 동기화 작업 중단 jobId={}", job.id());
+            } else {
+                job.finish(TourSyncJob.Status.FAILED, e.getMessage());
+                log.error("관광지 동기화 작업 실패 jobId={}", job.id(), e);
+            }
+        } finally {
+            renewal.cancel(false);
+            // 중단 요청으로 남은 인터럽트 플래그가 잠금 해제(Redis 호출)를 방해하지 않도록 지움
+            Thread.interrupted();
+            try {
+                lockService.unlock(LOCK_KEY, token);
+            } catch (Exception e) {
+                // TTL 이 지나면 자동 해제
+                log.warn("관광지 동기화 잠금 해제 실패 jobId={}", job.id(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.trip.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관광지 동기화 진행 상황 (동기화 스레드가 갱신, 조회 API 가 읽음)
+ */
+public class TourSyncProgress {
+
+    private final AtomicInteger totalPages = new AtomicInteger();
+    private final AtomicInteger pagesDone = new AtomicInteger();
+    private final AtomicInteger failedPages = new AtomicInteger();
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    // 조회 조건(변경분 동기화의 날짜)마다 첫 페이지를 받은 뒤 페이지 수를 더함
+    void addPages(int pages) {
+        totalPages.addAndGet(pages);
+    }
+
+    void pageDone() {
+        pagesDone.incrementAndGet();
+    }
+
+    void pageFailed() {
+        failedPages.incrementAndGet();
+    }
+
+    void rowsWritten(int rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    public int totalPages() {
+        return totalPages.get();
+    }
+
+    public int pagesDone() {
+        return pagesDone.get();
+    }
+
+    public int failedPages() {
+        return failedPages.get();
+    }
+
+    public long rowsWritten() {
+        return rowsWritten.get();
+    }
+}
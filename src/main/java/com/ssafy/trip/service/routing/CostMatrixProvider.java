@@ -0,0 +1,19 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.dto.RoutingRequest;
+
+import java.util.List;
+
+/**
+ * TSP 방문 순서 결정에 쓰는 비용 행렬 제공자
+ *  - 값의 단위는 구현마다 다름 (한 행렬 안에서만 비교하므로 무관)
+ */
+public interface CostMatrixProvider {
+
+    String name();
+
+    DistanceMatrix build(List<RoutingRequest.Point> points);
+
+    /** 이동 시간(분)을 이 행렬의 비용 단위로 환산 (일자별 이동 시간 제한 등) */
+    double costForMinutes(double minutes);
+}
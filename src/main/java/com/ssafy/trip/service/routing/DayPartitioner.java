@@ -0,0 +1,189 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.Arrays;
+
+/**
+ * 여러 날짜로 장소 나누기 (route-first, cluster-second)
+ *  1) 전체 장소를 하나의 경로로 TSP 정렬 (서로 가장 먼 두 점을 양 끝으로 고정)
+ *  2) 그 순서를 끊지 않고 연속 구간으로 나누는 최적 분할을 DP 로 계산
+ *     - 하루 장소 수 <= maxStopsPerDay, 하루 이동 비용 <= maxCostPerDay
+ *     - 일수 상한(maxDays)이 있으면 그 안에서 가장 긴 날의 이동 비용이 최소가 되도록, 같으면 비용 합이 작은 쪽
+ *       (합만 줄이면 28/1/1 처럼 한쪽으로 몰림, 날짜 사이 이동은 숙소 등으로 끊기므로 비용에서 제외)
+ *       maxStopsPerDay 가 없으면 하루 ceil(n / maxDays) 곳까지
+ *     - 일수 상한이 없으면 가장 적은 일수, 그 안에서 비용 합 최소
+ *  3) 날짜마다 양 끝을 고정하고 다시 TSP 정렬, 더 짧을 때만 교체
+ */
+public class DayPartitioner {
+
+    private final TspOptimizer tspOptimizer;
+
+    public DayPartitioner(TspOptimizer tspOptimizer) {
+        this.tspOptimizer = tspOptimizer;
+    }
+
+    /**
+     * @param dist           전체 장소 비용 행렬
+     * @param maxStopsPerDay 하루 최대 장소 수 (null 이면 maxDays 가 있을 때 ceil(n / maxDays), 없으면 제한 없음)
+     * @param maxCostPerDay  하루 최대 이동 비용, 행렬 단위 (null 이면 제한 없음)
+     * @param maxDays        최대 일수 (null 이면 조건을 만족하는 최소 일수)
+     * @param timeBudgetMs   TSP 시간 예산 (null 이면 기본값)
+     * @return 날짜별 방문 순서 (dist 의 index)
+     */
+    public int[][] partition(DistanceMatrix dist,
+                             Integer maxStopsPerDay,
+                             Double maxCostPerDay,
+                             Integer maxDays,
+                             Long timeBudgetMs) {
+        int n = dist.size();
+        if (n == 0) {
+            return new int[0][];
+        }
+
+        int[] tour = giantTour(dist, timeBudgetMs);
+
+        // prefix[i] = tour[0..i] 구간 이동 비용
+        double[] prefix = new double[n];
+        for (int i = 1; i < n; i++) {
+            prefix[i] = prefix[i - 1] + dist.get(tour[i - 1], tour[i]);
+        }
+
+        int dayLimit = maxDays == null ? n : Math.min(Math.max(1, maxDays), n);
+        int stopLimit = maxStopsPerDay != null ? Math.max(1, maxStopsPerDay)
+                : maxDays != null ? (n + dayLimit - 1) / dayLimit
+                : n;
+        double costLimit = maxCostPerDay == null ? Double.POSITIVE_INFINITY : maxCostPerDay;
+        boolean balance = maxDays != null;
+
+        // 앞 j 개 장소를 정확히 k 일로 나눌 때
+        //  best[k][j] = 최소 비용 합, longest[k][j] = 그때 가장 긴 날의 비용 (balance 면 longest 가 우선)
+        //  from[k][j] = 마지막 날 시작 위치
+        double[][] best = new double[dayLimit + 1][n + 1];
+        double[][] longest = new double[dayLimit + 1][n + 1];
+        int[][] from = new int[dayLimit + 1][n + 1];
+        for (int k = 0; k <= dayLimit; k++) {
+            Arrays.fill(best[k], Double.POSITIVE_INFINITY);
+            Arrays.fill(longest[k], Double.POSITIVE_INFINITY);
+        }
+        best[0][0] = 0;
+        longest[0][0] = 0;
+
+        int chosenDays = -1;
+        for (int k = 1; k <= dayLimit; k++) {
+            for (int j = k; j <= n; j++) {
+                for (int i = j - 1; i >= Math.max(k - 1, j - stopLimit); i--) {
+                    double dayCost = prefix[j - 1] - prefix[i];
+                    if (dayCost > costLimit) {
+                        // 시작을 앞당길수록 비용은 커지기만 함
+                        break;
+                    }
+                    if (best[k - 1][i] == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    double total = best[k - 1][i] + dayCost;
+                    double max = Math.max(longest[k - 1][i], dayCost);
+                    if (better(balance, max, total, longest[k][j], best[k][j])) {
+                        best[k][j] = total;
+                        longest[k][j] = max;
+                        from[k][j] = i;
+                    }
+                }
+            }
+
+            if (best[k][n] < Double.POSITIVE_INFINITY) {
+                if (maxDays == null) {
+                    chosenDays = k;
+                    break;
+                }
+                if (chosenDays < 0
+                        || better(true, longest[k][n], best[k][n], longest[chosenDays][n], best[chosenDays][n])) {
+                    chosenDays = k;
+                }
+            }
+        }
+
+        if (chosenDays < 0) {
+            throw new IllegalArgumentException("하루 제한 조건으로는 " + dayLimit + "일 안에 모든 장소를 배치할 수 없습니다.");
+        }
+
+        int[][] days = new int[chosenDays][];
+        int end = n;
+        for (int k = chosenDays; k >= 1; k--) {
+            int start = from[k][end];
+            int[] day = new int[end - start];
+            System.arraycopy(tour, start, day, 0, day.length);
+            days[k - 1] = reorderDay(dist, day, timeBudgetMs);
+            end = start;
+        }
+        return days;
+    }
+
+    // balance 면 (가장 긴 날, 합) 순으로, 아니면 합만 비교
+    private static boolean better(boolean balance, double max, double total, double bestMax, double bestTotal) {
+        if (balance && max != bestMax) {
+            return max < bestMax;
+        }
+        return total < bestTotal;
+    }
+
+    private int[] giantTour(DistanceMatrix dist, Long timeBudgetMs) {
+        int n = dist.size();
+        if (n <= 2) {
+            int[] identity = new int[n];
+            for (int i = 0; i < n; i++) identity[i] = i;
+            return identity;
+        }
+
+        int a = 0;
+        int b = 1;
+        double farthest = -1;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double d = dist.get(i, j);
+                if (d > farthest) {
+                    farthest = d;
+                    a = i;
+                    b = j;
+                }
+            }
+        }
+
+        // a 를 맨 앞, b 를 맨 뒤로
+        int[] indices = new int[n];
+        indices[0] = a;
+        indices[n - 1] = b;
+        int pos = 1;
+        for (int i = 0; i < n; i++) {
+            if (i != a && i != b) {
+                indices[pos++] = i;
+            }
+        }
+
+        int[] order = tspOptimizer.optimize(dist.select(indices), timeBudgetMs).order();
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = indices[order[i]];
+        }
+        return tour;
+    }
+
+    private int[] reorderDay(DistanceMatrix dist, int[] day, Long timeBudgetMs) {
+        if (day.length <= 3) {
+            return day;
+        }
+
+        DistanceMatrix sub = dist.select(day);
+        TspResult result = tspOptimizer.optimize(sub, timeBudgetMs);
+
+        int[] identity = new int[day.length];
+        for (int i = 0; i < day.length; i++) identity[i] = i;
+        if (result.cost() >= TspSolver.pathCost(sub, identity)) {
+            return day;
+        }
+
+        int[] reordered = new int[day.length];
+        for (int i = 0; i < day.length; i++) {
+            reordered[i] = day[result.order()[i]];
+        }
+        return reordered;
+    }
+}
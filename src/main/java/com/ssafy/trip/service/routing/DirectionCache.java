@@ -0,0 +1,440 @@
+package com.ssafy.trip.service.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.trip.dto.RoutingRequest;
+import com.ssafy.trip.dto.RoutingResponse;
+import com.ssafy.trip.service.DistributedLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 네이버 길찾기 결과 read-through 캐시
+ *  - 키: 최적화된 방문 순서의 좌표를 1e-5도(약 1m) 단위로 양자화한 문자열
+ *  - 1차: 프로세스 내 LRU (크기 제한 + TTL)
+ *  - 2차: Redis (TTL), 장애 시 경고만 남기고 캐시 미스로 처리
+ *  - 여러 노드가 같은 키를 동시에 놓치면 Redis 잠금을 잡은 노드만 loader 호출,
+ *    나머지는 Redis 에 결과가 채워지길 lock.wait-ms 동안 기다렸다가 사용 (시간 초과 시 직접 호출)
+ *    비동기 호출(getOrLoadAsync)은 기다리는 동안 워커 스레드를 점유하지 않음
+ *  - 지표: routing.direction.cache{tier=local|redis|lock-wait, result=hit|miss}
+ *
+ * 방문 순서(TSP 결과)도 같은 두 계층에 함께 캐시
+ *  - 키: 클라이언트가 보낸 좌표 순서 그대로 + TSP 시간 예산 → 반복 요청은 TSP 없이 바로 길찾기 캐시 조회
+ *  - 지표: routing.tsp.order.cache{tier=local|redis, result=hit|miss}
+ */
+@Slf4j
+@Component
+public class DirectionCache {
+
+    private static final String KEY_PREFIX = "routing:direction:v1:";
+    private static final String ORDER_KEY_PREFIX = "routing:order:v1:";
+    private static final String LOCK_PREFIX = "lock:";
+    private static final double QUANTUM = 1e5; // 1e-5도 ≈ 1.1m
+    private static final long LOCK_POLL_MS = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DistributedLockService lockService;
+
+    private final boolean redisEnabled;
+    private final boolean lockEnabled;
+    private final Duration lockTtl;
+    private final long lockWaitMs;
+    private final Duration localTtl;
+    private final Duration redisTtl;
+    private final Map<String, LocalEntry> local;
+    private final Map<String, OrderEntry> localOrders;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+    private final Counter lockWaitHit;
+    private final Counter lockWaitMiss;
+    private final Counter orderLocalHit;
+    private final Counter orderLocalMiss;
+    private final Counter orderRedisHit;
+    private final Counter orderRedisMiss;
+
+    // 다른 노드의 로드를 기다리는 요청들의 Redis 확인용 (대기 중인 요청 수와 관계없이 스레드 하나)
+    private final ScheduledExecutorService lockWaitScheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("routing-cache-wait-"));
+
+    private record LocalEntry(RoutingResponse value, long expiresAtMillis) {}
+
+    private record OrderEntry(TspResult value, long expiresAtMillis) {}
+
+    public DirectionCache(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          DistributedLockService lockService,
+                          MeterRegistry meterRegistry,
+                          @Value("${routing.cache.local.max-entries:1000}") int localMaxEntries,
+                          @Value("${routing.cache.local.ttl-seconds:600}") long localTtlSeconds,
+                          @Value("${routing.cache.redis.enabled:true}") boolean redisEnabled,
+                          @Value("${routing.cache.redis.ttl-seconds:86400}") long redisTtlSeconds,
+                          @Value("${routing.cache.lock.enabled:true}") boolean lockEnabled,
+                          @Value("${routing.cache.lock.ttl-ms:10000}") long lockTtlMs,
+                          @Value("${routing.cache.lock.wait-ms:3000}") long lockWaitMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.lockService = lockService;
+        this.redisEnabled = redisEnabled;
+        this.lockEnabled = lockEnabled;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.lockWaitMs = lockWaitMs;
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        // accessOrder = true → 가장 오래 안 쓴 항목부터 제거
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+        this.localOrders = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OrderEntry> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+
+        this.localHit = counter(meterRegistry, "local", "hit");
+        this.localMiss = counter(meterRegistry, "local", "miss");
+        this.redisHit = counter(meterRegistry, "redis", "hit");
+        this.redisMiss = counter(meterRegistry, "redis", "miss");
+        this.lockWaitHit = counter(meterRegistry, "lock-wait", "hit");
+        this.lockWaitMiss = counter(meterRegistry, "lock-wait", "miss");
+        this.orderLocalHit = orderCounter(meterRegistry, "local", "hit");
+        this.orderLocalMiss = orderCounter(meterRegistry, "local", "miss");
+        this.orderRedisHit = orderCounter(meterRegistry, "redis", "hit");
+        this.orderRedisMiss = orderCounter(meterRegistry, "redis", "miss");
+        meterRegistry.gauge("routing.direction.cache.local.size", local, m -> {
+            synchronized (m) {
+                return m.size();
+            }
+        });
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader 결과를 두 계층에 저장 후 반환
+     *  - 다른 노드가 잠금을 잡고 있으면 호출 스레드에서 채워지길 기다림 (동기 호출용)
+     *  - 반환 객체는 공유되므로 호출 측에서 수정하지 말 것
+     */
+    public RoutingResponse getOrLoad(List<RoutingRequest.Point> orderedPoints, Supplier<RoutingResponse> loader) {
+        String key = key(orderedPoints);
+        RoutingResponse cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (!redisEnabled || !lockEnabled) {
+            return loadAndStore(key, loader);
+        }
+
+        String token;
+        try {
+            token = lockService.tryLock(LOCK_PREFIX + key, lockTtl);
+        } catch (Exception e) {
+            log.warn("길찾기 캐시 잠금 실패, 잠금 없이 진행 key={}", key, e);
+            return loadAndStore(key, loader);
+        }
+        if (token != null) {
+            return loadLocked(key, token, loader);
+        }
+
+        RoutingResponse filled = awaitRedis(key).join();
+        if (filled != null) {
+            return filled;
+        }
+        return loadAndStore(key, loader);
+    }
+
+    /**
+     * getOrLoad 의 비동기 버전 (routing-async 풀에서 호출)
+     *  - 다른 노드가 잠금을 잡고 있으면 워커 스레드를 붙잡지 않고 대기 전용 스케줄러가 Redis 를 확인,
+     *    lock.wait-ms 안에 채워지지 않으면 executor 에서 직접 로드
+     *  - 그 외에는 호출 스레드에서 바로 수행 (캐시 조회 / 잠금을 잡은 경우의 loader)
+     */
+    public CompletableFuture<RoutingResponse> getOrLoadAsync(List<RoutingRequest.Point> orderedPoints,
+                                                             Supplier<RoutingResponse> loader,
+                                                             Executor executor) {
+        String key = key(orderedPoints);
+        try {
+            RoutingResponse cached = lookup(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            if (!redisEnabled || !lockEnabled) {
+                return CompletableFuture.completedFuture(loadAndStore(key, loader));
+            }
+
+            String token;
+            try {
+                token = lockService.tryLock(LOCK_PREFIX + key, lockTtl);
+            } catch (Exception e) {
+                log.warn("길찾기 캐시 잠금 실패, 잠금 없이 진행 key={}", key, e);
+                return CompletableFuture.completedFuture(loadAndStore(key, loader));
+            }
+            if (token != null) {
+                return CompletableFuture.completedFuture(loadLocked(key, token, loader));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return awaitRedis(key).thenCompose(filled -> filled != null
+                ? CompletableFuture.completedFuture(filled)
+                : CompletableFuture.supplyAsync(() -> loadAndStore(key, loader), executor));
+    }
+
+    /**
+     * 같은 입력(좌표 순서 + 시간 예산)으로 이전에 구한 방문 순서, 없으면 null
+     *  - 반환 결과의 elapsedMs 는 0 (이번 요청에서는 솔버를 돌리지 않음)
+     */
+    public TspResult getOrder(List<RoutingRequest.Point> inputPoints, Long tspTimeBudgetMs) {
+        String key = orderKey(inputPoints, tspTimeBudgetMs);
+        long now = System.currentTimeMillis();
+
+        TspResult cached = null;
+        synchronized (localOrders) {
+            OrderEntry entry = localOrders.get(key);
+            if (entry != null && entry.expiresAtMillis() >= now) {
+                cached = entry.value();
+            } else if (entry != null) {
+                localOrders.remove(key);
+            }
+        }
+        if (cached != null) {
+            orderLocalHit.increment();
+            return cached;
+        }
+        orderLocalMiss.increment();
+
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            cached = value == null ? null : parseOrder(value, inputPoints.size());
+        } catch (Exception e) {
+            log.warn("방문 순서 캐시(Redis) 조회 실패 key={}", key, e);
+        }
+        if (cached == null) {
+            orderRedisMiss.increment();
+            return null;
+        }
+        orderRedisHit.increment();
+        putLocalOrder(key, cached);
+        return cached;
+    }
+
+    public void putOrder(List<RoutingRequest.Point> inputPoints, Long tspTimeBudgetMs, TspResult tsp) {
+        String key = orderKey(inputPoints, tspTimeBudgetMs);
+        TspResult value = new TspResult(tsp.order(), tsp.solver(), tsp.cost(), 0);
+        putLocalOrder(key, value);
+        if (redisEnabled) {
+            try {
+                redisTemplate.opsForValue().set(key, formatOrder(value), redisTtl);
+            } catch (Exception e) {
+                log.warn("방문 순서 캐시(Redis) 저장 실패 key={}", key, e);
+            }
+        }
+    }
+
+    // 로컬 → Redis 순으로 조회 (Redis 적중 시 로컬에도 저장)
+    private RoutingResponse lookup(String key) {
+        RoutingResponse cached = getLocal(key);
+        if (cached != null) {
+            localHit.increment();
+            return cached;
+        }
+        localMiss.increment();
+
+        if (redisEnabled) {
+            cached = getRedis(key);
+            if (cached != null) {
+                redisHit.increment();
+                putLocal(key, cached);
+                return cached;
+            }
+            redisMiss.increment();
+        }
+        return null;
+    }
+
+    private RoutingResponse loadAndStore(String key, Supplier<RoutingResponse> loader) {
+        RoutingResponse loaded = loader.get();
+        putLocal(key, loaded);
+        if (redisEnabled) {
+            putRedis(key, loaded);
+        }
+        return loaded;
+    }
+
+    private RoutingResponse loadLocked(String key, String token, Supplier<RoutingResponse> loader) {
+        try {
+            return loadAndStore(key, loader);
+        } finally {
+            try {
+                lockService.unlock(LOCK_PREFIX + key, token);
+            } catch (Exception e) {
+                // TTL 이 지나면 자동 해제
+                log.warn("길찾기 캐시 잠금 해제 실패 key={}", key, e);
+            }
+        }
+    }
+
+    /**
+     * 잠금을 잡은 노드가 Redis 에 결과를 채울 때까지 LOCK_POLL_MS 간격으로 확인
+     *  - 대기 전용 스케줄러 스레드에서 확인하므로 기다리는 동안 워커 스레드를 쓰지 않음
+     *  - 채워지면 그 값, lock.wait-ms 가 지나면 null
+     */
+    private CompletableFuture<RoutingResponse> awaitRedis(String key) {
+        CompletableFuture<RoutingResponse> result = new CompletableFuture<>();
+        long deadline = System.currentTimeMillis() + lockWaitMs;
+        ScheduledFuture<?> poll = lockWaitScheduler.scheduleWithFixedDelay(() -> {
+            RoutingResponse cached = getRedis(key);
+            if (cached != null) {
+                lockWaitHit.increment();
+                putLocal(key, cached);
+                result.complete(cached);
+            } else if (System.currentTimeMillis() >= deadline) {
+                // 잠금을 잡은 노드가 실패했거나 너무 느린 경우
+                lockWaitMiss.increment();
+                result.complete(null);
+            }
+        }, LOCK_POLL_MS, LOCK_POLL_MS, TimeUnit.MILLISECONDS);
+        result.whenComplete((v, e) -> poll.cancel(false));
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lockWaitScheduler.shutdownNow();
+    }
+
+    public static String key(List<RoutingRequest.Point> orderedPoints) {
+        return appendPoints(new StringBuilder(KEY_PREFIX), orderedPoints).toString();
+    }
+
+    static String orderKey(List<RoutingRequest.Point> inputPoints, Long tspTimeBudgetMs) {
+        return appendPoints(new StringBuilder(ORDER_KEY_PREFIX), inputPoints)
+                .append('#')
+                .append(tspTimeBudgetMs)
+                .toString();
+    }
+
+    private static StringBuilder appendPoints(StringBuilder sb, List<RoutingRequest.Point> points) {
+        for (int i = 0; i < points.size(); i++) {
+            RoutingRequest.Point p = points.get(i);
+            if (i > 0) sb.append('|');
+            sb.append(Math.round(p.getLat() * QUANTUM))
+              .append(',')
+              .append(Math.round(p.getLng() * QUANTUM));
+        }
+        return sb;
+    }
+
+    // "solver;cost;0,2,1,3"
+    private static String formatOrder(TspResult tsp) {
+        StringBuilder sb = new StringBuilder(tsp.solver()).append(';').append(tsp.cost()).append(';');
+        int[] order = tsp.order();
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(order[i]);
+        }
+        return sb.toString();
+    }
+
+    // 형식이 다르거나 좌표 수와 맞지 않으면 null (캐시 미스로 처리)
+    private static TspResult parseOrder(String value, int pointCount) {
+        String[] parts = value.split(";", 3);
+        if (parts.length != 3) {
+            return null;
+        }
+        String[] idx = parts[2].split(",");
+        if (idx.length != pointCount) {
+            return null;
+        }
+        int[] order = new int[idx.length];
+        for (int i = 0; i < idx.length; i++) {
+            order[i] = Integer.parseInt(idx[i]);
+            if (order[i] < 0 || order[i] >= pointCount) {
+                return null;
+            }
+        }
+        return new TspResult(order, parts[0], Double.parseDouble(parts[1]), 0);
+    }
+
+    private void putLocalOrder(String key, TspResult value) {
+        long expiresAt = System.currentTimeMillis() + localTtl.toMillis();
+        synchronized (localOrders) {
+            localOrders.put(key, new OrderEntry(value, expiresAt));
+        }
+    }
+
+    private RoutingResponse getLocal(String key) {
+        synchronized (local) {
+            LocalEntry entry = local.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+                local.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void putLocal(String key, RoutingResponse value) {
+        long expiresAt = System.currentTimeMillis() + localTtl.toMillis();
+        synchronized (local) {
+            local.put(key, new LocalEntry(value, expiresAt));
+        }
+    }
+
+    private RoutingResponse getRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, RoutingResponse.class);
+        } catch (Exception e) {
+            log.warn("길찾기 캐시(Redis) 조회 실패 key={}", key, e);
+            return null;
+        }
+    }
+
+    private void putRedis(String key, RoutingResponse value) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (Exception e) {
+            log.warn("길찾기 캐시(Redis) 저장 실패 key={}", key, e);
+        }
+    }
+
+    private static Counter orderCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("routing.tsp.order.cache")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("routing.direction.cache")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
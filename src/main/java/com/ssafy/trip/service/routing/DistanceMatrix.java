@@ -0,0 +1,62 @@
+package com.ssafy.trip.service.routing;
+
+/**
+ * 대칭 비용 행렬 (i < j 인 위쪽 절반만 1차원 배열에 저장)
+ *  - n(n-1)/2 개만 저장하므로 double[n][n] 대비 메모리 절반 이하, 행 객체 없음
+ *  - 값의 단위는 만든 쪽에서 결정 (직선 거리: km)
+ */
+public final class DistanceMatrix {
+
+    private final int size;
+    private final double[] upper;
+
+    DistanceMatrix(int size, double[] upper) {
+        this.size = size;
+        this.upper = upper;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double get(int i, int j) {
+        if (i == j) return 0.0;
+        return i < j ? upper[index(i, j)] : upper[index(j, i)];
+    }
+
+    /** indices 에 해당하는 점만 골라 만든 부분 행렬 (새 행렬의 k 번째 점 = indices[k]) */
+    public DistanceMatrix select(int[] indices) {
+        int m = indices.length;
+        double[] sub = new double[m * (m - 1) / 2];
+        int pos = 0;
+        for (int a = 0; a < m - 1; a++) {
+            for (int b = a + 1; b < m; b++) {
+                sub[pos++] = get(indices[a], indices[b]);
+            }
+        }
+        return new DistanceMatrix(m, sub);
+    }
+
+    /** 행 i 의 (i, i+1) 칸 위치, 같은 행의 나머지는 연속 */
+    int rowOffset(int i) {
+        return i * (2 * size - i - 1) / 2;
+    }
+
+    private int index(int i, int j) {
+        return rowOffset(i) + (j - i - 1);
+    }
+
+    /** 솔버 내부 루프용 n x n 배열 */
+    public double[][] toArray() {
+        double[][] dense = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            int offset = rowOffset(i);
+            for (int j = i + 1; j < size; j++) {
+                double v = upper[offset + (j - i - 1)];
+                dense[i][j] = v;
+                dense[j][i] = v;
+            }
+        }
+        return dense;
+    }
+}
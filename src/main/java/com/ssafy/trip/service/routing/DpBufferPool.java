@@ -0,0 +1,117 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Held-Karp DP 테이블(float 비용 + byte 부모) 재사용 풀
+ *  - 요청마다 수십 MB 배열을 새로 만들지 않도록 반납된 버퍼를 재사용
+ *  - 풀에 보관 중인 버퍼 + 사용 중인 버퍼의 총합이 memoryBudgetBytes 를 넘으면 할당 거절
+ *  - ThreadLocal 은 톰캣 워커 수만큼 큰 배열이 상주하게 되므로 사용하지 않음
+ */
+public class DpBufferPool {
+
+    /** 상태 하나당 float(4) + byte(1) */
+    public static final int BYTES_PER_ENTRY = 5;
+
+    private final long memoryBudgetBytes;
+    private final int maxPooled;
+
+    private final Deque<Buffer> pooled = new ArrayDeque<>();
+    private long allocatedBytes = 0;
+
+    public DpBufferPool(long memoryBudgetBytes, int maxPooled) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.maxPooled = maxPooled;
+    }
+
+    public static final class Buffer {
+        final float[] cost;
+        final byte[] parent;
+
+        private Buffer(int entries) {
+            this.cost = new float[entries];
+            this.parent = new byte[entries];
+        }
+
+        int capacity() {
+            return cost.length;
+        }
+
+        long bytes() {
+            return (long) capacity() * BYTES_PER_ENTRY;
+        }
+    }
+
+    /**
+     * @return entries 개 이상을 담을 수 있는 버퍼, 메모리 예산 초과 시 null
+     */
+    public Buffer acquire(long entries) {
+        if (entries > Integer.MAX_VALUE) {
+            return null;
+        }
+        long needBytes = entries * BYTES_PER_ENTRY;
+
+        synchronized (this) {
+            Buffer bestFit = null;
+            for (Buffer b : pooled) {
+                if (b.capacity() >= entries && (bestFit == null || b.capacity() < bestFit.capacity())) {
+                    bestFit = b;
+                }
+            }
+            if (bestFit != null) {
+                pooled.remove(bestFit);
+                return bestFit;
+            }
+
+            // 예산이 모자라면 놀고 있는 버퍼부터 버림
+            Iterator<Buffer> it = pooled.iterator();
+            while (allocatedBytes + needBytes > memoryBudgetBytes && it.hasNext()) {
+                allocatedBytes -= it.next().bytes();
+                it.remove();
+            }
+            if (allocatedBytes + needBytes > memoryBudgetBytes) {
+                return null;
+            }
+            allocatedBytes += needBytes;
+        }
+
+        try {
+            return new Buffer((int) entries);
+        } catch (OutOfMemoryError e) {
+            synchronized (this) {
+                allocatedBytes -= needBytes;
+            }
+            return null;
+        }
+    }
+
+    public void release(Buffer buffer) {
+        synchronized (this) {
+            if (pooled.size() < maxPooled) {
+                pooled.push(buffer);
+                return;
+            }
+
+            // 풀이 가득 차면 더 작은 버퍼를 버리고 큰 버퍼를 남김
+            Buffer smallest = null;
+            for (Buffer b : pooled) {
+                if (smallest == null || b.capacity() < smallest.capacity()) {
+                    smallest = b;
+                }
+            }
+            if (smallest != null && smallest.capacity() < buffer.capacity()) {
+                pooled.remove(smallest);
+                allocatedBytes -= smallest.bytes();
+                pooled.push(buffer);
+            } else {
+                allocatedBytes -= buffer.bytes();
+            }
+        }
+    }
+
+    public synchronized long allocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.dto.RoutingRequest;
+
+import java.util.List;
+
+/**
+ * 직선 거리(km) 비용 행렬 (외부 호출 없음)
+ *  - 시간 환산은 우회 계수 / 평균 속도 기준 추정
+ */
+public class HaversineCostMatrixProvider implements CostMatrixProvider {
+
+    public static final String NAME = "haversine";
+
+    private final GeoDistanceCalculator geoDistanceCalculator;
+    private final double roadFactor;
+    private final double estimateSpeedKmh;
+
+    public HaversineCostMatrixProvider(GeoDistanceCalculator geoDistanceCalculator,
+                                       double roadFactor,
+                                       double estimateSpeedKmh) {
+        this.geoDistanceCalculator = geoDistanceCalculator;
+        this.roadFactor = roadFactor;
+        this.estimateSpeedKmh = estimateSpeedKmh;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public DistanceMatrix build(List<RoutingRequest.Point> points) {
+        return geoDistanceCalculator.build(points);
+    }
+
+    @Override
+    public double costForMinutes(double minutes) {
+        return minutes / 60 * estimateSpeedKmh / roadFactor;
+    }
+}
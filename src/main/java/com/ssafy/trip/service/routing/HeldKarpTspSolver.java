@@ -0,0 +1,262 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 비트마스크 DP(Held-Karp) 기반 정확해 솔버
+ *  - O(2^n · n²) 이므로 점 개수가 작을 때만 사용
+ *  - 출발점/도착점은 고정이므로 상태 공간에서 제외 → 중간 점 k = n-2 개만 비트로 표현
+ *  - 비용은 float, 부모는 byte 로 1차원 배열(index = mask * k + last)에 저장
+ *    (n=20 기준 약 24MB, 기존 double[][] + int[][] 방식은 약 250MB)
+ *  - DP 테이블은 DpBufferPool 에서 빌려 쓰고, 메모리 예산을 넘으면 null 을 반환해 상위에서 휴리스틱으로 대체
+ *  - 병렬 모드: 원소 수가 c 인 부분집합은 c-1 층에만 의존하므로 층(popcount) 단위로 ForkJoin 분할
+ *    각 작업은 자기 mask 의 칸만 쓰기 때문에 락/경합 없음
+ *    층의 mask 는 미리 만들어 두지 않고 작업마다 시작 mask 를 순위로 구한 뒤 다음 조합을 차례로 계산
+ *    (k=24 기준 mask 배열 약 64MB 를 DpBufferPool 예산 밖에 상주시키지 않음)
+ */
+public class HeldKarpTspSolver implements TspSolver {
+
+    public static final String NAME = "exact-held-karp";
+
+    /** byte 부모 포인터 / int 마스크 범위 */
+    private static final int MAX_POINTS = 26;
+    private static final byte FROM_START = -1;
+
+    /** 작업 하나가 처리할 최소 mask 수 (너무 잘게 쪼개면 fork 비용이 더 큼) */
+    private static final int MIN_MASKS_PER_TASK = 512;
+
+    /** BINOMIAL[a][b] = aCb (a, b <= 24, 최대 24C12 = 2,704,156) */
+    private static final int[][] BINOMIAL = binomials(MAX_POINTS - 2);
+
+    private final DpBufferPool bufferPool;
+    private final int parallelism;
+    private final int parallelMinPoints;
+
+    public HeldKarpTspSolver(DpBufferPool bufferPool) {
+        this(bufferPool, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param parallelism       요청 하나가 동시에 사용할 최대 작업 수 (호출 스레드 포함, commonPool 병렬도로 제한)
+     * @param parallelMinPoints 이 개수 이상일 때만 병렬 수행
+     */
+    public HeldKarpTspSolver(DpBufferPool bufferPool, int parallelism, int parallelMinPoints) {
+        this.bufferPool = bufferPool;
+        this.parallelism = Math.max(1, Math.min(parallelism, ForkJoinPool.getCommonPoolParallelism() + 1));
+        this.parallelMinPoints = parallelMinPoints;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /** n 개 점에 필요한 DP 상태 수 */
+    public static long stateCount(int n) {
+        int k = n - 2;
+        return k <= 0 ? 0 : (1L << k) * k;
+    }
+
+    @Override
+    public int[] solve(DistanceMatrix dist, long deadlineNanos) {
+        int n = dist.size();
+        if (n <= 3) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            return order;
+        }
+        if (n > MAX_POINTS) {
+            return null;
+        }
+
+        DpBufferPool.Buffer buffer = bufferPool.acquire(stateCount(n));
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            return run(dist, buffer.cost, buffer.parent);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private int[] run(DistanceMatrix dist, float[] cost, byte[] parent) {
+        int n = dist.size();
+        int k = n - 2;
+        int end = n - 1;
+
+        // 중간 점 j ↔ 원래 index j+1
+        float[] d = new float[k * k];
+        float[] fromStart = new float[k];
+        float[] toEnd = new float[k];
+        for (int i = 0; i < k; i++) {
+            fromStart[i] = (float) dist.get(0, i + 1);
+            toEnd[i] = (float) dist.get(i + 1, end);
+            for (int j = 0; j < k; j++) {
+                d[i * k + j] = (float) dist.get(i + 1, j + 1);
+            }
+        }
+
+        // 각 (mask, last) 는 정확히 한 번만 기록되므로 버퍼 초기화가 필요 없음
+        int full = (1 << k) - 1;
+        if (parallelism > 1 && n >= parallelMinPoints) {
+            relaxByLayers(k, d, fromStart, cost, parent);
+        } else {
+            for (int mask = 1; mask <= full; mask++) {
+                relaxMask(mask, k, d, fromStart, cost, parent);
+            }
+        }
+
+        float best = Float.MAX_VALUE;
+        int bestLast = -1;
+        int base = full * k;
+        for (int last = 0; last < k; last++) {
+            float c = cost[base + last] + toEnd[last];
+            if (c < best) {
+                best = c;
+                bestLast = last;
+            }
+        }
+
+        int[] order = new int[n];
+        order[0] = 0;
+        order[end] = end;
+        int mask = full;
+        int last = bestLast;
+        for (int pos = end - 1; pos >= 1; pos--) {
+            order[pos] = last + 1;
+            int prev = parent[mask * k + last];
+            mask ^= 1 << last;
+            last = prev;
+        }
+        return order;
+    }
+
+    /** dp[mask][last] = min(dp[mask - last][prev] + d(prev, last)) */
+    static void relaxMask(int mask, int k, float[] d, float[] fromStart, float[] cost, byte[] parent) {
+        int base = mask * k;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            int last = Integer.numberOfTrailingZeros(bits);
+            int prevMask = mask ^ (1 << last);
+
+            if (prevMask == 0) {
+                cost[base + last] = fromStart[last];
+                parent[base + last] = FROM_START;
+                continue;
+            }
+
+            int prevBase = prevMask * k;
+            float best = Float.MAX_VALUE;
+            int bestPrev = -1;
+            for (int pb = prevMask; pb != 0; pb &= pb - 1) {
+                int prev = Integer.numberOfTrailingZeros(pb);
+                float c = cost[prevBase + prev] + d[prev * k + last];
+                if (c < best) {
+                    best = c;
+                    bestPrev = prev;
+                }
+            }
+            cost[base + last] = best;
+            parent[base + last] = (byte) bestPrev;
+        }
+    }
+
+    private void relaxByLayers(int k, float[] d, float[] fromStart, float[] cost, byte[] parent) {
+        for (int c = 1; c <= k; c++) {
+            int size = BINOMIAL[k][c];
+
+            int tasks = Math.min(parallelism, Math.max(1, size / MIN_MASKS_PER_TASK));
+            if (tasks == 1) {
+                relaxLayer(c, 0, size, k, d, fromStart, cost, parent);
+                continue;
+            }
+
+            // invokeAll: 첫 작업은 호출 스레드가 직접 수행, 나머지는 commonPool 에 fork → 요청당 최대 parallelism 개
+            List<LayerChunk> chunks = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                int rankFrom = (int) ((long) size * t / tasks);
+                int rankTo = (int) ((long) size * (t + 1) / tasks);
+                chunks.add(new LayerChunk(c, rankFrom, rankTo, k, d, fromStart, cost, parent));
+            }
+            ForkJoinTask.invokeAll(chunks);
+        }
+    }
+
+    /** popcount 가 c 인 mask 중 오름차순 순위 [rankFrom, rankTo) 범위 */
+    static void relaxLayer(int c, int rankFrom, int rankTo, int k,
+                           float[] d, float[] fromStart, float[] cost, byte[] parent) {
+        int mask = unrankMask(c, rankFrom);
+        for (int r = rankFrom; r < rankTo; r++) {
+            relaxMask(mask, k, d, fromStart, cost, parent);
+            mask = nextMask(mask);
+        }
+    }
+
+    private static final class LayerChunk extends RecursiveAction {
+        private final int c;
+        private final int rankFrom;
+        private final int rankTo;
+        private final int k;
+        private final float[] d;
+        private final float[] fromStart;
+        private final float[] cost;
+        private final byte[] parent;
+
+        LayerChunk(int c, int rankFrom, int rankTo, int k,
+                   float[] d, float[] fromStart, float[] cost, byte[] parent) {
+            this.c = c;
+            this.rankFrom = rankFrom;
+            this.rankTo = rankTo;
+            this.k = k;
+            this.d = d;
+            this.fromStart = fromStart;
+            this.cost = cost;
+            this.parent = parent;
+        }
+
+        @Override
+        protected void compute() {
+            relaxLayer(c, rankFrom, rankTo, k, d, fromStart, cost, parent);
+        }
+    }
+
+    /**
+     * popcount 가 c 인 mask 중 오름차순 rank 번째 (조합 수 체계)
+     *  rank = Σ C(위치_i, i), 가장 높은 비트부터 C(pos, m) <= rank 인 가장 큰 pos 를 고름
+     */
+    static int unrankMask(int c, int rank) {
+        int mask = 0;
+        int pos = BINOMIAL.length - 1;
+        for (int m = c; m >= 1; m--) {
+            while (BINOMIAL[pos][m] > rank) {
+                pos--;
+            }
+            mask |= 1 << pos;
+            rank -= BINOMIAL[pos][m];
+            pos--;
+        }
+        return mask;
+    }
+
+    /** popcount 가 같은 다음으로 큰 mask (Gosper's hack) */
+    static int nextMask(int mask) {
+        int low = mask & -mask;
+        int ripple = mask + low;
+        return (((ripple ^ mask) >>> 2) / low) | ripple;
+    }
+
+    private static int[][] binomials(int max) {
+        int[][] table = new int[max + 1][max + 1];
+        for (int a = 0; a <= max; a++) {
+            table[a][0] = 1;
+            for (int b = 1; b <= a; b++) {
+                table[a][b] = table[a - 1][b - 1] + (b < a ? table[a - 1][b] : 0);
+            }
+        }
+        return table;
+    }
+}
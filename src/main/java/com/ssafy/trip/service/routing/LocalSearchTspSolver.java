@@ -0,0 +1,200 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.Random;
+
+/**
+ * 점 개수가 많을 때 사용하는 휴리스틱 솔버
+ *  1) Nearest Neighbor 로 초기 경로 생성
+ *  2) 2-opt / Or-opt 지역 탐색으로 개선
+ *  3) 시간이 남으면 double-bridge 교란 후 다시 지역 탐색 (Iterated Local Search)
+ *  - 마감 시각이 지나면 지금까지 찾은 최선의 경로를 반환
+ *  - 비용 행렬은 대칭이라고 가정 (2-opt 구간 뒤집기)
+ */
+public class LocalSearchTspSolver implements TspSolver {
+
+    public static final String NAME = "heuristic-2opt-oropt";
+
+    private static final double EPS = 1e-9;
+    private static final int OR_OPT_MAX_SEGMENT = 3;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] solve(DistanceMatrix matrix, long deadlineNanos) {
+        // 내부 루프는 인덱스 계산 없는 2차원 배열로
+        double[][] dist = matrix.toArray();
+        int n = dist.length;
+        int[] tour = nearestNeighbor(dist);
+        if (n <= 3) {
+            return tour;
+        }
+
+        localSearch(dist, tour, deadlineNanos);
+
+        int[] best = tour.clone();
+        double bestCost = TspSolver.pathCost(matrix, best);
+
+        // 내부 점이 4개 이상이어야 double-bridge 가능
+        if (n < 6) {
+            return best;
+        }
+
+        Random random = new Random(n);
+        while (System.nanoTime() < deadlineNanos) {
+            int[] candidate = doubleBridge(best, random);
+            localSearch(dist, candidate, deadlineNanos);
+
+            double cost = TspSolver.pathCost(matrix, candidate);
+            if (cost + EPS < bestCost) {
+                best = candidate;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    // 출발점에서 가장 가까운 미방문 점을 차례로 선택, 도착점은 마지막에 고정
+    private int[] nearestNeighbor(double[][] dist) {
+        int n = dist.length;
+        int[] tour = new int[n];
+        boolean[] visited = new boolean[n];
+
+        tour[0] = 0;
+        visited[0] = true;
+        visited[n - 1] = true;
+        tour[n - 1] = n - 1;
+
+        for (int pos = 1; pos < n - 1; pos++) {
+            int prev = tour[pos - 1];
+            int next = -1;
+            double nextDist = Double.MAX_VALUE;
+            for (int v = 1; v < n - 1; v++) {
+                if (!visited[v] && dist[prev][v] < nextDist) {
+                    nextDist = dist[prev][v];
+                    next = v;
+                }
+            }
+            tour[pos] = next;
+            visited[next] = true;
+        }
+        return tour;
+    }
+
+    // 더 이상 개선이 없거나 마감 시각이 될 때까지 2-opt → Or-opt 반복
+    private void localSearch(double[][] dist, int[] tour, long deadlineNanos) {
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = twoOpt(dist, tour) | orOpt(dist, tour);
+        }
+    }
+
+    private boolean twoOpt(double[][] dist, int[] t) {
+        int n = t.length;
+        boolean improved = false;
+        for (int i = 1; i < n - 2; i++) {
+            for (int j = i + 1; j < n - 1; j++) {
+                double delta = dist[t[i - 1]][t[j]] + dist[t[i]][t[j + 1]]
+                        - dist[t[i - 1]][t[i]] - dist[t[j]][t[j + 1]];
+                if (delta < -EPS) {
+                    reverse(t, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 길이 1~3 구간을 다른 간선 사이로 옮김 (뒤집어서 넣는 경우 포함)
+    private boolean orOpt(double[][] dist, int[] t) {
+        int n = t.length;
+        boolean improved = false;
+
+        for (int len = 1; len <= OR_OPT_MAX_SEGMENT; len++) {
+            for (int i = 1; i + len - 1 <= n - 2; i++) {
+                int a = t[i - 1];
+                int s = t[i];
+                int e = t[i + len - 1];
+                int b = t[i + len];
+                double removeGain = dist[a][s] + dist[e][b] - dist[a][b];
+
+                int bestP = -1;
+                boolean bestReversed = false;
+                double bestDelta = -EPS;
+
+                for (int p = 0; p < n - 1; p++) {
+                    if (p >= i - 1 && p <= i + len - 1) continue;
+                    int c = t[p];
+                    int d = t[p + 1];
+                    double base = dist[c][d];
+
+                    double forward = dist[c][s] + dist[e][d] - base - removeGain;
+                    if (forward < bestDelta) {
+                        bestDelta = forward;
+                        bestP = p;
+                        bestReversed = false;
+                    }
+                    double reversed = dist[c][e] + dist[s][d] - base - removeGain;
+                    if (reversed < bestDelta) {
+                        bestDelta = reversed;
+                        bestP = p;
+                        bestReversed = true;
+                    }
+                }
+
+                if (bestP >= 0) {
+                    moveSegment(t, i, len, bestP, bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // t[i..i+len-1] 구간을 t[p] 와 t[p+1] 사이로 이동
+    private void moveSegment(int[] t, int i, int len, int p, boolean reversed) {
+        int[] segment = new int[len];
+        System.arraycopy(t, i, segment, 0, len);
+        if (reversed) {
+            reverse(segment, 0, len - 1);
+        }
+
+        if (p < i) {
+            // [p+1, i) 를 뒤로 밀고 그 자리에 segment
+            System.arraycopy(t, p + 1, t, p + 1 + len, i - (p + 1));
+            System.arraycopy(segment, 0, t, p + 1, len);
+        } else {
+            // [i+len, p] 를 앞으로 당기고 그 뒤에 segment
+            System.arraycopy(t, i + len, t, i, p - (i + len) + 1);
+            System.arraycopy(segment, 0, t, p - len + 1, len);
+        }
+    }
+
+    // 내부 점을 네 구간으로 나눠 A-C-B-D 순으로 재배치 (2-opt 로 되돌리기 어려운 교란)
+    private int[] doubleBridge(int[] tour, Random random) {
+        int n = tour.length;
+        int inner = n - 2;
+
+        int p1 = 1 + random.nextInt(inner - 2);
+        int p2 = p1 + 1 + random.nextInt(inner - (p1 - 1) - 2);
+        int p3 = p2 + 1 + random.nextInt(n - 1 - p2 - 1);
+
+        int[] next = new int[n];
+        int idx = 0;
+        for (int k = 0; k < p1; k++) next[idx++] = tour[k];
+        for (int k = p2; k < p3; k++) next[idx++] = tour[k];
+        for (int k = p1; k < p2; k++) next[idx++] = tour[k];
+        for (int k = p3; k < n; k++) next[idx++] = tour[k];
+        return next;
+    }
+
+    private void reverse(int[] t, int from, int to) {
+        while (from < to) {
+            int tmp = t[from];
+            t[from++] = t[to];
+            t[to--] = tmp;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.dto.GeoPath;
+
+/**
+ * Google Encoded Polyline (정밀도 1e-5) 인코더
+ *  - 좌표당 JSON 객체 대신 이전 좌표와의 차이를 5bit 단위 ASCII 로 기록
+ *  - 프론트에서는 @googlemaps/polyline-codec 등으로 디코딩
+ */
+public final class PolylineEncoder {
+
+    private static final double PRECISION = 1e5;
+
+    private PolylineEncoder() {
+    }
+
+    public static String encode(GeoPath path) {
+        StringBuilder sb = new StringBuilder(path.size() * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < path.size(); i++) {
+            long lat = Math.round(path.lat(i) * PRECISION);
+            long lng = Math.round(path.lng(i) * PRECISION);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(long delta, StringBuilder sb) {
+        long v = delta < 0 ? ~(delta << 1) : delta << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.dto.GeoPath;
+
+/**
+ * Douglas-Peucker 경로 단순화
+ *  - 첫 점 기준 등장방형 투영(m)으로 점-선분 거리를 계산
+ *  - 재귀 대신 명시적 스택 사용 (수만 개 좌표에서도 스택 오버플로 없음)
+ */
+public final class PolylineSimplifier {
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * GeoDistanceCalculator.EARTH_RADIUS_KM * 1000;
+
+    /** 줌 0 에서 적도 기준 픽셀당 미터 (256px 타일) */
+    private static final double METERS_PER_PIXEL_Z0 = 156_543.03392;
+
+    private PolylineSimplifier() {
+    }
+
+    /**
+     * 웹 지도 줌 레벨에서 1픽셀에 해당하는 거리(m)
+     */
+    public static double toleranceForZoom(int zoom, double latitude) {
+        return METERS_PER_PIXEL_Z0 * Math.cos(Math.toRadians(latitude)) / Math.pow(2, zoom);
+    }
+
+    public static GeoPath simplify(GeoPath path, double toleranceMeters) {
+        int n = path.size();
+        if (n <= 2 || toleranceMeters <= 0) {
+            return path;
+        }
+
+        double cosLat = Math.cos(Math.toRadians(path.lat(0)));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = path.lng(i) * cosLat * METERS_PER_DEGREE;
+            y[i] = path.lat(i) * METERS_PER_DEGREE;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        double tolSq = toleranceMeters * toleranceMeters;
+        int[] stack = new int[2 * n];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+
+            int farthest = -1;
+            double farthestSq = tolSq;
+            for (int i = first + 1; i < last; i++) {
+                double dSq = segmentDistanceSq(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (dSq > farthestSq) {
+                    farthestSq = dSq;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+
+        return path.select(keep);
+    }
+
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lenSq = dx * dx + dy * dy;
+
+        double t = lenSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lenSq;
+        t = Math.max(0, Math.min(1, t));
+
+        double cx = ax + t * dx - px;
+        double cy = ay + t * dy - py;
+        return cx * cx + cy * cy;
+    }
+}
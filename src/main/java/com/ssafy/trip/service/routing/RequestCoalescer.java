@@ -0,0 +1,84 @@
+package com.ssafy.trip.service.routing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 계산을 하나로 합치는 single-flight
+ *  - 먼저 들어온 요청이 계산, 계산 중에 들어온 같은 키 요청은 같은 future 의 결과(또는 예외)를 받음
+ *  - 계산이 끝나면 바로 제거 (결과 캐시가 아님, 캐시는 DirectionCache 담당)
+ *  - 결과 객체는 여러 요청이 공유하므로 호출 측에서 수정하지 말 것
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * execute 의 비동기 버전: 같은 키 요청은 기다리는 스레드 없이 진행 중인 future 에 붙음
+     *  - supplier 가 돌려준 future 가 끝나면 제거
+     *  - 호출마다 별도 복사본을 반환 → 한 요청의 orTimeout / cancel 이 다른 요청에 영향을 주지 않음
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> supplier) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        CompletableFuture<V> started;
+        try {
+            started = supplier.get();
+        } catch (RuntimeException | Error e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((value, e) -> {
+            inFlight.remove(key, mine);
+            if (e != null) {
+                mine.completeExceptionally(e);
+            } else {
+                mine.complete(value);
+            }
+        });
+        return mine.copy();
+    }
+
+    /** 현재 계산 중인 키 수 */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
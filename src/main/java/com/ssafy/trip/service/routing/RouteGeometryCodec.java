@@ -0,0 +1,166 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.dto.GeoPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 저장용 일자별 경로 바이너리 형식
+ *
+ * <pre>
+ * varint  FORMAT_VERSION
+ * varint  dayCount
+ * 일자마다:
+ *   varint  dayIndex
+ *   varint  flags (bit 0: 길찾기 실패, 형식 버전 2부터)
+ *   varint  distanceMeters (반올림)
+ *   varint  durationSeconds
+ *   varint  pointCount
+ *   zigzag varint (lat * 1e5, lng * 1e5) 를 이전 점과의 차이로 pointCount 번
+ * </pre>
+ *  - 인접 좌표 차이는 대부분 1~2바이트 → 좌표당 JSON 수십 바이트 대비 1/10 이하
+ *  - 정밀도는 Encoded Polyline 과 같은 1e-5도 (약 1m)
+ *  - 실패한 일자는 거리/시간 0, 좌표 없이 flags 만 표시 (버전 1 데이터도 읽음)
+ */
+public final class RouteGeometryCodec {
+
+    private static final int FORMAT_VERSION = 2;
+    private static final int FLAG_FAILED = 1;
+    private static final double PRECISION = 1e5;
+
+    private RouteGeometryCodec() {
+    }
+
+    /**
+     * @param failed 길찾기에 실패한 일자 (경로 없음)
+     */
+    public record DayGeometry(int dayIndex,
+                              double distanceMeters,
+                              int durationSeconds,
+                              GeoPath path,
+                              boolean failed) {
+
+        public DayGeometry(int dayIndex, double distanceMeters, int durationSeconds, GeoPath path) {
+            this(dayIndex, distanceMeters, durationSeconds, path, false);
+        }
+
+        public static DayGeometry failed(int dayIndex) {
+            return new DayGeometry(dayIndex, 0, 0, GeoPath.EMPTY, true);
+        }
+    }
+
+    public static byte[] encode(List<DayGeometry> days) {
+        Writer out = new Writer(64);
+        out.writeVarint(FORMAT_VERSION);
+        out.writeVarint(days.size());
+        for (DayGeometry day : days) {
+            out.writeVarint(day.dayIndex());
+            out.writeVarint(day.failed() ? FLAG_FAILED : 0);
+            out.writeVarint(Math.round(day.distanceMeters()));
+            out.writeVarint(day.durationSeconds());
+
+            GeoPath path = day.path();
+            out.writeVarint(path.size());
+            long prevLat = 0;
+            long prevLng = 0;
+            for (int i = 0; i < path.size(); i++) {
+                long lat = Math.round(path.lat(i) * PRECISION);
+                long lng = Math.round(path.lng(i) * PRECISION);
+                out.writeSignedVarint(lat - prevLat);
+                out.writeSignedVarint(lng - prevLng);
+                prevLat = lat;
+                prevLng = lng;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static List<DayGeometry> decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int format = (int) in.readVarint();
+        if (format != 1 && format != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 경로 형식 버전입니다: " + format);
+        }
+
+        int dayCount = (int) in.readVarint();
+        List<DayGeometry> days = new ArrayList<>(dayCount);
+        for (int d = 0; d < dayCount; d++) {
+            int dayIndex = (int) in.readVarint();
+            int flags = format >= 2 ? (int) in.readVarint() : 0;
+            double distance = in.readVarint();
+            int duration = (int) in.readVarint();
+
+            int pointCount = (int) in.readVarint();
+            GeoPath.Builder path = GeoPath.builder(pointCount);
+            long lat = 0;
+            long lng = 0;
+            for (int i = 0; i < pointCount; i++) {
+                lat += in.readSignedVarint();
+                lng += in.readSignedVarint();
+                path.add(lat / PRECISION, lng / PRECISION);
+            }
+            days.add(new DayGeometry(dayIndex, distance, duration, path.build(), (flags & FLAG_FAILED) != 0));
+        }
+        return days;
+    }
+
+    private static final class Writer {
+        private byte[] buf;
+        private int size;
+
+        Writer(int capacity) {
+            buf = new byte[capacity];
+        }
+
+        void writeSignedVarint(long v) {
+            writeVarint((v << 1) ^ (v >> 63)); // zigzag
+        }
+
+        void writeVarint(long v) {
+            if (size + 10 > buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        long readSignedVarint() {
+            long v = readVarint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long readVarint() {
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                if (pos >= buf.length) {
+                    throw new IllegalStateException("경로 데이터가 손상되었습니다.");
+                }
+                byte b = buf[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+            }
+        }
+    }
+}
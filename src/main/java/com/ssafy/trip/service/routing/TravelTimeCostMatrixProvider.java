@@ -0,0 +1,180 @@
+package com.ssafy.trip.service.routing;
+
+import com.ssafy.trip.client.NaverDirectionClient;
+import com.ssafy.trip.domain.TravelTimePair;
+import com.ssafy.trip.dto.RoutingRequest;
+import com.ssafy.trip.dto.RoutingResponse;
+import com.ssafy.trip.repository.TravelTimePairRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 자동차 이동 시간(초) 비용 행렬
+ *  - 쌍별 소요 시간은 DB(travel_time_pair)에 영구 저장, 대칭으로 취급 (A→B = B→A)
+ *  - 캐시에 없는 쌍은 직선 거리 × 우회 계수 / 평균 속도로 추정하고, 백그라운드에서 네이버 2점 경로로 채움
+ *  - 요청당 새로 조회하는 쌍은 max-fetch-per-request 개로 제한 → 요청마다 n^2 번 호출하지 않음
+ *    (같은 지역을 반복 요청할수록 실제 도로 시간 비율이 올라감)
+ */
+@Slf4j
+public class TravelTimeCostMatrixProvider implements CostMatrixProvider {
+
+    public static final String NAME = "travel-time";
+
+    /** 1e-4 도 ≈ 11m, 같은 장소를 조금 다르게 찍은 좌표도 같은 키로 */
+    private static final double KEY_PRECISION = 1e4;
+
+    private final GeoDistanceCalculator geoDistanceCalculator;
+    private final TravelTimePairRepository travelTimePairRepository;
+    private final NaverDirectionClient naverDirectionClient;
+    private final double roadFactor;
+    private final double estimateSpeedKmh;
+    private final int maxFetchPerRequest;
+
+    // 조회 중인 쌍 (같은 쌍을 동시에 여러 번 요청하지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor fetchExecutor;
+
+    public TravelTimeCostMatrixProvider(GeoDistanceCalculator geoDistanceCalculator,
+                                        TravelTimePairRepository travelTimePairRepository,
+                                        NaverDirectionClient naverDirectionClient,
+                                        double roadFactor,
+                                        double estimateSpeedKmh,
+                                        int maxFetchPerRequest,
+                                        int fetchConcurrency,
+                                        int fetchQueueCapacity) {
+        this.geoDistanceCalculator = geoDistanceCalculator;
+        this.travelTimePairRepository = travelTimePairRepository;
+        this.naverDirectionClient = naverDirectionClient;
+        this.roadFactor = roadFactor;
+        this.estimateSpeedKmh = estimateSpeedKmh;
+        this.maxFetchPerRequest = maxFetchPerRequest;
+
+        // 큐가 가득 차면 이번 요청에서는 포기 (다음 요청에서 다시 시도)
+        this.fetchExecutor = new ThreadPoolExecutor(
+                fetchConcurrency, fetchConcurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(fetchQueueCapacity),
+                new CustomizableThreadFactory("travel-time-fetch-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.fetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public DistanceMatrix build(List<RoutingRequest.Point> points) {
+        int n = points.size();
+        DistanceMatrix straight = geoDistanceCalculator.build(points);
+
+        String[] pointKeys = new String[n];
+        for (int i = 0; i < n; i++) {
+            pointKeys[i] = pointKey(points.get(i));
+        }
+
+        double[] upper = new double[n * (n - 1) / 2];
+        DistanceMatrix matrix = new DistanceMatrix(n, upper);
+
+        Map<String, Integer> known = loadKnown(pointKeys);
+        int fetches = 0;
+        for (int i = 0; i < n - 1; i++) {
+            int offset = matrix.rowOffset(i);
+            for (int j = i + 1; j < n; j++) {
+                if (pointKeys[i].equals(pointKeys[j])) {
+                    upper[offset + (j - i - 1)] = 0;
+                    continue;
+                }
+                String key = pairKey(pointKeys[i], pointKeys[j]);
+                Integer seconds = known.get(key);
+                if (seconds != null) {
+                    upper[offset + (j - i - 1)] = seconds;
+                    continue;
+                }
+
+                upper[offset + (j - i - 1)] = estimateSeconds(straight.get(i, j));
+                if (fetches < maxFetchPerRequest && scheduleFetch(key, points.get(i), points.get(j))) {
+                    fetches++;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public double costForMinutes(double minutes) {
+        return minutes * 60;
+    }
+
+    public void shutdown() {
+        fetchExecutor.shutdown();
+    }
+
+    private Map<String, Integer> loadKnown(String[] pointKeys) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < pointKeys.length - 1; i++) {
+            for (int j = i + 1; j < pointKeys.length; j++) {
+                if (!pointKeys[i].equals(pointKeys[j])) {
+                    keys.add(pairKey(pointKeys[i], pointKeys[j]));
+                }
+            }
+        }
+
+        Map<String, Integer> known = new HashMap<>();
+        try {
+            for (TravelTimePair pair : travelTimePairRepository.findAllById(keys)) {
+                known.put(pair.getPairKey(), pair.getDurationSeconds());
+            }
+        } catch (RuntimeException e) {
+            // DB 장애 시 전부 추정값으로 계산
+            log.warn("이동 시간 캐시 조회 실패, 직선 거리 추정값 사용: {}", e.getMessage());
+        }
+        return known;
+    }
+
+    private boolean scheduleFetch(String key, RoutingRequest.Point a, RoutingRequest.Point b) {
+        if (!inFlight.add(key)) {
+            return false;
+        }
+        try {
+            fetchExecutor.execute(() -> fetch(key, a, b));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            return false;
+        }
+    }
+
+    private void fetch(String key, RoutingRequest.Point a, RoutingRequest.Point b) {
+        try {
+            RoutingResponse direction = naverDirectionClient.getDirection(List.of(a, b));
+            travelTimePairRepository.save(TravelTimePair.builder()
+                    .pairKey(key)
+                    .durationSeconds(direction.getTotalDurationSeconds())
+                    .distanceMeters((int) Math.round(direction.getTotalDistanceMeters()))
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("이동 시간 조회 실패 {}: {}", key, e.getMessage());
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private double estimateSeconds(double straightKm) {
+        return straightKm * roadFactor / estimateSpeedKmh * 3600;
+    }
+
+    static String pointKey(RoutingRequest.Point p) {
+        return Math.round(p.getLat() * KEY_PRECISION) + "," + Math.round(p.getLng() * KEY_PRECISION);
+    }
+
+    /** 순서와 무관한 쌍 키 */
+    static String pairKey(String a, String b) {
+        return a.compareTo(b) <= 0 ? a + "|" + b : b + "|" + a;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.trip.service.routing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점 개수에 따라 솔버를 고르는 계층형 TSP 최적화기
+ *  - n <= exactMaxPoints : 정확해(Held-Karp)
+ *  - 그 외               : 휴리스틱(2-opt / Or-opt), 요청별 시간 예산 안에서 최선의 해 반환
+ */
+@Slf4j
+public class TspOptimizer {
+
+    private final TspSolver exactSolver;
+    private final TspSolver heuristicSolver;
+    private final int exactMaxPoints;
+    private final long defaultTimeBudgetMs;
+    private final long maxTimeBudgetMs;
+
+    public TspOptimizer(TspSolver exactSolver,
+                        TspSolver heuristicSolver,
+                        int exactMaxPoints,
+                        long defaultTimeBudgetMs,
+                        long maxTimeBudgetMs) {
+        this.exactSolver = exactSolver;
+        this.heuristicSolver = heuristicSolver;
+        this.exactMaxPoints = exactMaxPoints;
+        this.defaultTimeBudgetMs = defaultTimeBudgetMs;
+        this.maxTimeBudgetMs = maxTimeBudgetMs;
+    }
+
+    /**
+     * @param dist         비용 행렬
+     * @param timeBudgetMs 요청별 시간 예산 (null 이면 기본값, 최대값으로 제한)
+     */
+    public TspResult optimize(DistanceMatrix dist, Long timeBudgetMs) {
+        int n = dist.size();
+        long started = System.nanoTime();
+
+        if (n <= 3) {
+            int[] identity = new int[n];
+            for (int i = 0; i < n; i++) identity[i] = i;
+            return result(dist, identity, "trivial", started);
+        }
+
+        long budgetMs = timeBudgetMs == null ? defaultTimeBudgetMs : Math.min(timeBudgetMs, maxTimeBudgetMs);
+        long deadline = started + Math.max(budgetMs, 0) * 1_000_000L;
+
+        if (n <= exactMaxPoints) {
+            int[] order = exactSolver.solve(dist, deadline);
+            if (order != null) {
+                return result(dist, order, exactSolver.name(), started);
+            }
+            // 메모리 예산 초과 등으로 정확해 계산이 거절된 경우
+            log.warn("정확해 솔버 수행 불가(메모리 예산 초과), 휴리스틱으로 대체 n={}", n);
+        }
+
+        int[] order = heuristicSolver.solve(dist, deadline);
+        return result(dist, order, heuristicSolver.name(), started);
+    }
+
+    private TspResult result(DistanceMatrix dist, int[] order, String solver, long started) {
+        double elapsedMs = (System.nanoTime() - started) / 1_000_000.0;
+        return new TspResult(order, solver, TspSolver.pathCost(dist, order), elapsedMs);
+    }
+}
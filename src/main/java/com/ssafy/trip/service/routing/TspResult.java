@@ -0,0 +1,16 @@
+package com.ssafy.trip.service.routing;
+
+/**
+ * TSP 최적화 결과
+ *
+ * @param order     방문 순서 (원본 좌표 index)
+ * @param solver    실제로 사용된 솔버 이름
+ * @param cost      경로 비용 (비용 행렬 단위)
+ * @param elapsedMs 솔버 수행 시간(ms)
+ */
+public record TspResult(
+        int[] order,
+        String solver,
+        double cost,
+        double elapsedMs
+) {}
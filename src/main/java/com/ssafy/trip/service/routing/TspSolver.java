@@ -0,0 +1,25 @@
+package com.ssafy.trip.service.routing;
+
+/**
+ * 출발점(0)과 도착점(n-1)이 고정된 열린 경로 TSP 풀이 전략
+ */
+public interface TspSolver {
+
+    /** 응답에 노출되는 솔버 이름 */
+    String name();
+
+    /**
+     * @param dist           비용 행렬
+     * @param deadlineNanos  System.nanoTime() 기준 마감 시각 (휴리스틱만 사용)
+     * @return 방문 순서 (index 배열, 첫 원소 0 / 마지막 원소 n-1)
+     */
+    int[] solve(DistanceMatrix dist, long deadlineNanos);
+
+    static double pathCost(DistanceMatrix dist, int[] order) {
+        double cost = 0;
+        for (int i = 0; i + 1 < order.length; i++) {
+            cost += dist.get(order[i], order[i + 1]);
+        }
+        return cost;
+    }
+}
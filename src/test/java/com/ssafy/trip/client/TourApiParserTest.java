@@ -0,0 +1,150 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.ssafy.trip.domain.Attraction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourApiParserTest {
+
+    private final TourApiParser parser = new TourApiParser(new JsonFactory());
+
+    private static final String SEOUL_TOWER = """
+            {"contentid":"126535","contenttypeid":"12","title":"N서울타워","addr1":"서울특별시 용산구 남산공원길 105",
+             "addr2":"","mapx":"126.9882266","mapy":"37.5511694","firstimage":"http://img/1.jpg","tel":"02-3455-9277",
+             "sido":"1","gugun":"21","modifiedtime":"20240101120000","extra":{"nested":[1,2,3]}}""";
+
+    private static final String GYEONGBOKGUNG = """
+            {"contentid":126508,"contenttypeid":12,"title":"경복궁","addr1":"서울특별시 종로구 사직로 161",
+             "mapx":126.9769930,"mapy":37.5788222}""";
+
+    // 좌표 없는 항목
+    private static final String NO_COORDINATES = """
+            {"contentid":"1","title":"좌표 없음","mapx":"","mapy":""}""";
+
+    @Test
+    void parsesItemArray() throws IOException {
+        TourApiParser.Result result = parse(response("[" + SEOUL_TOWER + "," + GYEONGBOKGUNG + "]", "\"2\""));
+
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.items()).hasSize(2);
+
+        Attraction tower = result.items().get(0);
+        assertThat(tower.getContentId()).isEqualTo(126535L);
+        assertThat(tower.getTitle()).isEqualTo("N서울타워");
+        assertThat(tower.getAddr2()).isEqualTo("");
+        assertThat(tower.getLatitude()).isEqualTo(37.5511694);
+        assertThat(tower.getLongitude()).isEqualTo(126.9882266);
+        assertThat(tower.getContentTypeId()).isEqualTo(12);
+        assertThat(tower.getImageUrl()).isEqualTo("http://img/1.jpg");
+        assertThat(tower.getTel()).isEqualTo("02-3455-9277");
+        assertThat(tower.getSido()).isEqualTo("1");
+        assertThat(tower.getGugun()).isEqualTo("21");
+
+        // 숫자 토큰으로 온 값 / 없는 필드는 기본값
+        Attraction palace = result.items().get(1);
+        assertThat(palace.getContentId()).isEqualTo(126508L);
+        assertThat(palace.getContentTypeId()).isEqualTo(12);
+        assertThat(palace.getAddr2()).isEqualTo("");
+        assertThat(palace.getTel()).isEqualTo("");
+    }
+
+    @Test
+    void singleItemObject() throws IOException {
+        TourApiParser.Result result = parse(response(GYEONGBOKGUNG, "1"));
+
+        assertThat(result.totalCount()).isEqualTo(1);
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().get(0).getTitle()).isEqualTo("경복궁");
+    }
+
+    @Test
+    void emptyItemsString() throws IOException {
+        String json = """
+                {"response":{"header":{"resultCode":"0000","resultMsg":"OK"},
+                 "body":{"items":"","numOfRows":100,"pageNo":5,"totalCount":0}}}""";
+
+        TourApiParser.Result result = parse(json);
+
+        assertThat(result.totalCount()).isEqualTo(0);
+        assertThat(result.items()).isEmpty();
+    }
+
+    @Test
+    void skipsNonObjectElementsAndItemsWithoutCoordinates() throws IOException {
+        String items = "[null," + SEOUL_TOWER + ",\"x\",[1,2]," + NO_COORDINATES + "," + GYEONGBOKGUNG + "]";
+
+        TourApiParser.Result result = parse(response(items, "6"));
+
+        assertThat(result.totalCount()).isEqualTo(6);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.items().get(0).getTitle()).isEqualTo("N서울타워");
+        assertThat(result.items().get(1).getTitle()).isEqualTo("경복궁");
+    }
+
+    @Test
+    void nullContentTypeIdStaysNull() throws IOException {
+        String item = """
+                {"contentid":"3","title":"t","mapx":"127.0","mapy":"37.0","contenttypeid":null,"tel":null}""";
+
+        Attraction a = parse(response("[" + item + "]", "1")).items().get(0);
+
+        assertThat(a.getContentTypeId()).isNull();
+        assertThat(a.getTel()).isEqualTo("");
+    }
+
+    @Test
+    void errorResultCodeFails() {
+        String json = """
+                {"response":{"header":{"resultCode":"22","resultMsg":"LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"}}}""";
+
+        assertThatThrownBy(() -> parse(json))
+                .isInstanceOf(TourApiException.class)
+                .hasMessageContaining("resultCode=22")
+                .satisfies(e -> assertThat(((TourApiException) e).isRateLimited()).isTrue());
+    }
+
+    // 인증 오류 등은 response 없이 최상위에 resultCode 가 오기도 함
+    @Test
+    void topLevelErrorResultCodeFails() {
+        String json = """
+                {"resultCode":"30","resultMsg":"SERVICE_KEY_IS_NOT_REGISTERED_ERROR"}""";
+
+        assertThatThrownBy(() -> parse(json))
+                .isInstanceOf(TourApiException.class)
+                .hasMessageContaining("resultCode=30")
+                .satisfies(e -> assertThat(((TourApiException) e).isRateLimited()).isFalse());
+    }
+
+    @Test
+    void missingResultCodeFails() {
+        String json = """
+                {"response":{"body":{"items":"","totalCount":0}}}""";
+
+        assertThatThrownBy(() -> parse(json))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("resultCode");
+    }
+
+    @Test
+    void emptyBodyFails() {
+        assertThatThrownBy(() -> parse(""))
+                .isInstanceOf(IOException.class);
+    }
+
+    private TourApiParser.Result parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String response(String item, String totalCount) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"0000\",\"resultMsg\":\"OK\"},"
+                + "\"body\":{\"items\":{\"item\":" + item + "},\"numOfRows\":100,\"pageNo\":1,"
+                + "\"totalCount\":" + totalCount + "}}}";
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.trip.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamMetricsTest {
+
+    // RestTemplate 은 응답 처리 중 IOException 을 ResourceAccessException 으로 감쌈
+    @Test
+    void parserErrorsAreNotCountedAsNetworkErrors() {
+        assertThat(UpstreamMetrics.outcome(wrapped(new TourApiException("22", "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"))))
+                .isEqualTo("rate_limited");
+        assertThat(UpstreamMetrics.outcome(wrapped(new TourApiException("30", "SERVICE_KEY_IS_NOT_REGISTERED_ERROR"))))
+                .isEqualTo("error");
+        assertThat(UpstreamMetrics.outcome(wrapped(new TourApiException(null, "resultCode 없음"))))
+                .isEqualTo("error");
+        assertThat(UpstreamMetrics.outcome(wrapped(new JsonParseException(null, "잘못된 JSON"))))
+                .isEqualTo("error");
+    }
+
+    @Test
+    void networkErrors() {
+        assertThat(UpstreamMetrics.outcome(wrapped(new SocketTimeoutException("Read timed out"))))
+                .isEqualTo("timeout");
+        assertThat(UpstreamMetrics.outcome(wrapped(new IOException("Connection reset"))))
+                .isEqualTo("io_error");
+    }
+
+    private static ResourceAccessException wrapped(IOException cause) {
+        return new ResourceAccessException("I/O error on GET request", cause);
+    }
+}
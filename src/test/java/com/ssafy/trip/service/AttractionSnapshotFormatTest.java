@@ -0,0 +1,143 @@
+package com.ssafy.trip.service;
+
+import com.ssafy.trip.domain.Attraction;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttractionSnapshotFormatTest {
+
+    @Test
+    void csvKeepsNullAndEmptyStringApart() throws IOException {
+        Attraction a = attraction(1L, "경복궁");
+        a.setAddr2(null);
+        a.setTel("");
+        a.setContentTypeId(null);
+
+        String csv = write(AttractionSnapshotFormat.CSV, a);
+
+        // 빈 칸 = null, "" = 빈 문자열
+        assertThat(csv).isEqualTo("1,경복궁,서울특별시 종로구,,11,23,37.5788222,126.976993,,http://img/1.jpg,\"\"\n");
+
+        Attraction read = readAll(AttractionSnapshotFormat.CSV, csv).get(0);
+        assertThat(read.getAddr2()).isNull();
+        assertThat(read.getTel()).isEqualTo("");
+        assertThat(read.getContentTypeId()).isNull();
+    }
+
+    @Test
+    void csvQuotedFieldsWithCommaQuoteAndNewline() throws IOException {
+        Attraction a = attraction(2L, "남산 \"N서울타워\", 전망대\n야경");
+        a.setAddr1("서울 용산구\n남산공원길 105");
+        Attraction b = attraction(3L, "다음 줄");
+
+        String csv = write(AttractionSnapshotFormat.CSV, a, b);
+        List<Attraction> read = readAll(AttractionSnapshotFormat.CSV, csv);
+
+        assertThat(read).hasSize(2);
+        assertThat(fields(read.get(0))).isEqualTo(fields(a));
+        assertThat(fields(read.get(1))).isEqualTo(fields(b));
+    }
+
+    @Test
+    void csvUnclosedQuoteFails() {
+        String csv = "4,\"닫히지 않은 제목,,,,,1.0,2.0,,,\n";
+
+        assertThatThrownBy(() -> readAll(AttractionSnapshotFormat.CSV, csv))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void csvWrongColumnCountFails() {
+        assertThatThrownBy(() -> AttractionSnapshotFormat.CSV.parse("5,제목,주소"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("열 개수");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        Attraction a = attraction(6L, "줄바꿈\n\"따옴표\"");
+        a.setAddr2(null);
+        a.setTel("");
+        a.setContentTypeId(null);
+        Attraction b = attraction(7L, "두 번째");
+
+        String ndjson = write(AttractionSnapshotFormat.NDJSON, a, b);
+
+        assertThat(ndjson.lines().toList()).hasSize(2);
+        List<Attraction> read = readAll(AttractionSnapshotFormat.NDJSON, ndjson + "\n  \n");
+        assertThat(read).hasSize(2);
+        assertThat(fields(read.get(0))).isEqualTo(fields(a));
+        assertThat(fields(read.get(1))).isEqualTo(fields(b));
+    }
+
+    @Test
+    void ndjsonIgnoresUnknownFields() throws IOException {
+        Attraction a = AttractionSnapshotFormat.NDJSON.parse(
+                "{\"contentId\":8,\"title\":\"t\",\"latitude\":37.0,\"longitude\":127.0,\"modifiedtime\":\"20240101\"}");
+
+        assertThat(a.getContentId()).isEqualTo(8L);
+        assertThat(a.getTitle()).isEqualTo("t");
+    }
+
+    @Test
+    void formatFromFileName() {
+        assertThat(AttractionSnapshotFormat.of("a.ndjson")).isEqualTo(AttractionSnapshotFormat.NDJSON);
+        assertThat(AttractionSnapshotFormat.of("a.JSONL.gz")).isEqualTo(AttractionSnapshotFormat.NDJSON);
+        assertThat(AttractionSnapshotFormat.of("a.csv.gz")).isEqualTo(AttractionSnapshotFormat.CSV);
+        assertThat(AttractionSnapshotFormat.isGzip("a.csv.GZ")).isTrue();
+        assertThat(AttractionSnapshotFormat.isGzip("a.csv")).isFalse();
+
+        assertThatThrownBy(() -> AttractionSnapshotFormat.of("a.json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Attraction attraction(long contentId, String title) {
+        Attraction a = new Attraction();
+        a.setContentId(contentId);
+        a.setTitle(title);
+        a.setAddr1("서울특별시 종로구");
+        a.setAddr2("사직로 161");
+        a.setSido("11");
+        a.setGugun("23");
+        a.setLatitude(37.5788222);
+        a.setLongitude(126.976993);
+        a.setContentTypeId(12);
+        a.setImageUrl("http://img/1.jpg");
+        a.setTel("02-3700-3900");
+        return a;
+    }
+
+    // Attraction 은 equals 가 없으므로 스냅샷에 들어가는 값만 비교
+    static List<Object> fields(Attraction a) {
+        return Arrays.asList(a.getContentId(), a.getTitle(), a.getAddr1(), a.getAddr2(), a.getSido(), a.getGugun(),
+                a.getLatitude(), a.getLongitude(), a.getContentTypeId(), a.getImageUrl(), a.getTel());
+    }
+
+    private static String write(AttractionSnapshotFormat format, Attraction... attractions) throws IOException {
+        StringWriter out = new StringWriter();
+        for (Attraction a : attractions) {
+            format.write(a, out);
+        }
+        return out.toString();
+    }
+
+    private static List<Attraction> readAll(AttractionSnapshotFormat format, String text) throws IOException {
+        BufferedReader in = new BufferedReader(new StringReader(text));
+        List<Attraction> read = new ArrayList<>();
+        String record;
+        while ((record = format.readRecord(in)) != null) {
+            read.add(format.parse(record));
+        }
+        return read;
+    }
+}
@@ -0,0 +1,191 @@
+package com.ssafy.trip.service;
+
+import com.ssafy.trip.domain.Attraction;
+import com.ssafy.trip.dto.AttractionSnapshotResponse;
+import com.ssafy.trip.repository.AttractionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ssafy.trip.service.AttractionSnapshotFormatTest.attraction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AttractionSnapshotServiceTest {
+
+    @TempDir
+    Path snapshotDir;
+
+    private AttractionSnapshotService service;
+
+    // DB 대신: 내보내기는 exported 를 한 행씩 넘기고, 가져오기는 upsert 된 행을 imported 에 모음
+    private final List<Attraction> exported = new ArrayList<>();
+    private final List<Attraction> imported = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AttractionBulkWriter bulkWriter = mock(AttractionBulkWriter.class);
+        when(bulkWriter.upsert(anyList())).thenAnswer(inv -> {
+            List<Attraction> rows = inv.getArgument(0);
+            imported.addAll(rows);
+            return rows.size();
+        });
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+
+        service = new AttractionSnapshotService(bulkWriter, mock(AttractionRepository.class), jdbcTemplate);
+        ReflectionTestUtils.setField(service, "snapshotDir", snapshotDir.toString());
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+        // 묶음 여러 개 + 마지막 묶음이 덜 찬 경우까지
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.invokeMethod(service, "init");
+
+        JdbcTemplate streaming = mock(JdbcTemplate.class);
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (Attraction a : exported) {
+                handler.processRow(row(a));
+            }
+            return null;
+        }).when(streaming).query(anyString(), any(RowCallbackHandler.class));
+        ReflectionTestUtils.setField(service, "streamingJdbcTemplate", streaming);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(service, "shutdown");
+    }
+
+    @Test
+    void csvExportThenImport() throws Exception {
+        roundTrip("attractions.csv");
+    }
+
+    @Test
+    void gzipCsvExportThenImport() throws Exception {
+        roundTrip("attractions.csv.gz");
+    }
+
+    @Test
+    void ndjsonExportThenImport() throws Exception {
+        roundTrip("attractions.ndjson");
+    }
+
+    @Test
+    void gzipNdjsonExportThenImport() throws Exception {
+        roundTrip("attractions.jsonl.gz");
+    }
+
+    // 엑셀 등에서 저장한 CSV
+    @Test
+    void csvWithBomHeader() throws Exception {
+        Files.writeString(snapshotDir.resolve("bom.csv"),
+                "\uFEFFcontentId,title,addr1,addr2,sido,gugun,latitude,longitude,contentTypeId,imageUrl,tel\r\n"
+                        + "10,\"제목, 쉼표\",,,,,37.5,127.0,,,\r\n",
+                StandardCharsets.UTF_8);
+
+        AttractionSnapshotResponse res = service.importSnapshot("bom.csv");
+
+        assertThat(res.getRows()).isEqualTo(1L);
+        assertThat(imported.get(0).getTitle()).isEqualTo("제목, 쉼표");
+        assertThat(imported.get(0).getAddr1()).isNull();
+    }
+
+    @Test
+    void csvWithWrongHeaderFails() throws Exception {
+        Files.writeString(snapshotDir.resolve("wrong.csv"), "id,title\n1,t\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> service.importSnapshot("wrong.csv"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("헤더");
+    }
+
+    // 필수 값이 없거나 형식이 잘못된 레코드는 건너뛰고 나머지는 저장
+    @Test
+    void invalidRecordsAreSkipped() throws Exception {
+        Files.writeString(snapshotDir.resolve("partial.ndjson"), """
+                {"contentId":1,"title":"a","latitude":37.0,"longitude":127.0}
+                {"contentId":2,"title":"좌표 없음"}
+                not json
+                {"contentId":3,"title":"b","latitude":37.1,"longitude":127.1}
+                """, StandardCharsets.UTF_8);
+
+        AttractionSnapshotResponse res = service.importSnapshot("partial.ndjson");
+
+        assertThat(res.getRows()).isEqualTo(2L);
+        assertThat(res.getSkipped()).isEqualTo(2L);
+        assertThat(imported.stream().map(Attraction::getContentId).toList()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void fileOutsideSnapshotDirIsRejected() {
+        assertThatThrownBy(() -> service.importSnapshot("../attractions.csv"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.exportSnapshot("sub/attractions.csv"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void roundTrip(String fileName) throws Exception {
+        Attraction plain = attraction(1L, "경복궁");
+        Attraction quoted = attraction(2L, "남산 \"N서울타워\", 전망대\n야경");
+        Attraction blanks = attraction(3L, "빈 값");
+        blanks.setAddr2(null);
+        blanks.setTel("");
+        blanks.setContentTypeId(null);
+        Attraction last = attraction(4L, "마지막");
+        Attraction odd = attraction(5L, "홀수 번째 묶음");
+        exported.addAll(List.of(plain, quoted, blanks, last, odd));
+
+        AttractionSnapshotResponse out = service.exportSnapshot(fileName);
+        assertThat(out.getRows()).isEqualTo(5L);
+        assertThat(Files.exists(snapshotDir.resolve(fileName + ".tmp"))).isFalse();
+
+        AttractionSnapshotResponse in = service.importSnapshot(fileName);
+        assertThat(in.getRows()).isEqualTo(5L);
+        assertThat(in.getSkipped()).isEqualTo(0L);
+
+        // 파일 순서대로 저장
+        assertThat(imported.stream().map(AttractionSnapshotFormatTest::fields).toList())
+                .isEqualTo(exported.stream().map(AttractionSnapshotFormatTest::fields).toList());
+    }
+
+    // SELECT_ALL 의 열 이름으로 값을 돌려주는 한 행짜리 ResultSet
+    private static ResultSet row(Attraction a) {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("content_id", a.getContentId());
+        columns.put("title", a.getTitle());
+        columns.put("addr1", a.getAddr1());
+        columns.put("addr2", a.getAddr2());
+        columns.put("sido", a.getSido());
+        columns.put("gugun", a.getGugun());
+        columns.put("latitude", a.getLatitude());
+        columns.put("longitude", a.getLongitude());
+        columns.put("content_type_id", a.getContentTypeId());
+        columns.put("image_url", a.getImageUrl());
+        columns.put("tel", a.getTel());
+        return mock(ResultSet.class, inv -> inv.getArguments().length > 0 && inv.getArgument(0) instanceof String column
+                ? columns.get(column)
+                : null);
+    }
+}
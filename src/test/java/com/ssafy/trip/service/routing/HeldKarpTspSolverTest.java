@@ -0,0 +1,143 @@
+package com.ssafy.trip.service.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HeldKarpTspSolverTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final DpBufferPool bufferPool = new DpBufferPool(256L * 1024 * 1024, 2);
+    private final HeldKarpTspSolver sequential = new HeldKarpTspSolver(bufferPool);
+    // parallelMinPoints=0 → 모든 크기에서 층 단위 경로 사용
+    private final HeldKarpTspSolver parallel = new HeldKarpTspSolver(bufferPool, 4, 0);
+
+    @Test
+    void sequentialMatchesBruteForce() {
+        assertMatchesBruteForce(sequential);
+    }
+
+    @Test
+    void parallelMatchesBruteForce() {
+        assertMatchesBruteForce(parallel);
+    }
+
+    // n=16 → 가운데 층(14C7 = 3432)이 여러 작업으로 나뉨
+    @Test
+    void parallelMatchesSequentialWhenLayersAreSplit() {
+        Random random = new Random(16);
+        for (int round = 0; round < 3; round++) {
+            DistanceMatrix dist = randomMatrix(16, random);
+
+            int[] expected = sequential.solve(dist, NO_DEADLINE);
+            int[] actual = parallel.solve(dist, NO_DEADLINE);
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void layerMasksAreEnumeratedInAscendingOrder() {
+        for (int k = 1; k <= 12; k++) {
+            for (int c = 1; c <= k; c++) {
+                int rank = 0;
+                for (int mask = 1; mask < 1 << k; mask++) {
+                    if (Integer.bitCount(mask) != c) {
+                        continue;
+                    }
+                    assertThat(HeldKarpTspSolver.unrankMask(c, rank)).isEqualTo(mask);
+                    if (rank > 0) {
+                        assertThat(HeldKarpTspSolver.nextMask(HeldKarpTspSolver.unrankMask(c, rank - 1))).isEqualTo(mask);
+                    }
+                    rank++;
+                }
+            }
+        }
+    }
+
+    // 메모리 예산을 넘으면 null → TspOptimizer 가 휴리스틱으로 대체
+    @Test
+    void returnsNullWhenBufferBudgetIsExceeded() {
+        DpBufferPool tiny = new DpBufferPool(1024, 1);
+        HeldKarpTspSolver solver = new HeldKarpTspSolver(tiny);
+
+        assertThat(solver.solve(randomMatrix(12, new Random(1)), NO_DEADLINE)).isNull();
+        assertThat(tiny.allocatedBytes()).isEqualTo(0L);
+    }
+
+    private static void assertMatchesBruteForce(HeldKarpTspSolver solver) {
+        Random random = new Random(42);
+        for (int n = 4; n <= 9; n++) {
+            for (int round = 0; round < 5; round++) {
+                DistanceMatrix dist = randomMatrix(n, random);
+
+                int[] order = solver.solve(dist, NO_DEADLINE);
+
+                assertThat(order[0]).isEqualTo(0);
+                assertThat(order[n - 1]).isEqualTo(n - 1);
+                assertThat(isPermutation(order)).isTrue();
+                assertThat(TspSolver.pathCost(dist, order)).isCloseTo(bruteForceCost(dist), within(1e-3));
+            }
+        }
+    }
+
+    // 출발점(0) / 도착점(n-1) 고정, 가운데 순열을 모두 시도
+    private static double bruteForceCost(DistanceMatrix dist) {
+        int n = dist.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        return permute(dist, order, 1, Double.POSITIVE_INFINITY);
+    }
+
+    private static double permute(DistanceMatrix dist, int[] order, int pos, double best) {
+        int n = order.length;
+        if (pos == n - 1) {
+            return Math.min(best, TspSolver.pathCost(dist, order));
+        }
+        for (int i = pos; i < n - 1; i++) {
+            swap(order, pos, i);
+            best = permute(dist, order, pos + 1, best);
+            swap(order, pos, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private static boolean isPermutation(int[] order) {
+        boolean[] seen = new boolean[order.length];
+        for (int v : order) {
+            if (v < 0 || v >= order.length || seen[v]) {
+                return false;
+            }
+            seen[v] = true;
+        }
+        return true;
+    }
+
+    // 100km x 100km 안의 임의 좌표, 유클리드 거리
+    private static DistanceMatrix randomMatrix(int n, Random random) {
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() * 100;
+            y[i] = random.nextDouble() * 100;
+        }
+        double[] upper = new double[n * (n - 1) / 2];
+        int pos = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                upper[pos++] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }
+        return new DistanceMatrix(n, upper);
+    }
+}
@@ -0,0 +1,150 @@
+package com.ssafy.trip.service.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.trip.client.NaverDirectionClient;
+import com.ssafy.trip.client.UpstreamMetrics;
+import com.ssafy.trip.domain.TravelTimePair;
+import com.ssafy.trip.dto.RoutingRequest;
+import com.ssafy.trip.repository.TravelTimePairRepository;
+import com.ssafy.trip.support.StubNaverDirectionServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TravelTimeCostMatrixProviderTest {
+
+    private static final double STUB_SPEED_KMH = 30;
+
+    private StubNaverDirectionServer stub;
+    private NaverDirectionClient client;
+    private TravelTimeCostMatrixProvider provider;
+
+    // DB 대신 메모리 저장소
+    private final Map<String, TravelTimePair> stored = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubNaverDirectionServer(STUB_SPEED_KMH);
+
+        client = new NaverDirectionClient(
+                new RestTemplate(), new ObjectMapper(), new UpstreamMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "directionUrl", stub.directionUrl());
+        ReflectionTestUtils.setField(client, "naverClientId", "test-id");
+        ReflectionTestUtils.setField(client, "naverClientSecret", "test-secret");
+        ReflectionTestUtils.setField(client, "maxWaypoints", 5);
+        ReflectionTestUtils.setField(client, "segmentConcurrency", 2);
+        ReflectionTestUtils.setField(client, "segmentQueueCapacity", 16);
+        ReflectionTestUtils.setField(client, "bulkheadMaxConcurrent", 4);
+        ReflectionTestUtils.setField(client, "bulkheadMaxWaitMs", 1000L);
+        ReflectionTestUtils.setField(client, "circuitWindowSize", 20);
+        ReflectionTestUtils.setField(client, "circuitMinimumCalls", 10);
+        ReflectionTestUtils.setField(client, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(client, "circuitOpenDurationMs", 30000L);
+        ReflectionTestUtils.setField(client, "circuitProbeCalls", 3);
+        ReflectionTestUtils.invokeMethod(client, "init");
+
+        TravelTimePairRepository repository = mock(TravelTimePairRepository.class);
+        when(repository.findAllById(any())).thenAnswer(inv -> {
+            List<TravelTimePair> found = new ArrayList<>();
+            for (String key : inv.<Iterable<String>>getArgument(0)) {
+                TravelTimePair pair = stored.get(key);
+                if (pair != null) {
+                    found.add(pair);
+                }
+            }
+            return found;
+        });
+        when(repository.save(any())).thenAnswer(inv -> {
+            TravelTimePair pair = inv.getArgument(0);
+            stored.put(pair.getPairKey(), pair);
+            return pair;
+        });
+
+        provider = new TravelTimeCostMatrixProvider(
+                new GeoDistanceCalculator(GeoDistanceCalculator.Mode.HAVERSINE),
+                repository, client, 1.3, 40, 10, 2, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.shutdown();
+        ReflectionTestUtils.invokeMethod(client, "shutdown");
+        stub.close();
+    }
+
+    @Test
+    void missingPairsAreEstimatedThenFilledFromDirectionApi() throws Exception {
+        List<RoutingRequest.Point> points = List.of(
+                point(37.5665, 126.9780),   // 서울시청
+                point(37.5796, 126.9770),   // 경복궁
+                point(37.5512, 126.9882)    // 남산타워
+        );
+
+        DistanceMatrix first = provider.build(points);
+        double estimate = GeoDistanceCalculator.haversineKm(37.5665, 126.9780, 37.5796, 126.9770) * 1.3 / 40 * 3600;
+        assertThat(first.get(0, 1)).isCloseTo(estimate, within(1e-6));
+
+        awaitTrue(() -> stored.size() == 3);
+        assertThat(stub.requestCount()).isEqualTo(3);
+
+        DistanceMatrix second = provider.build(points);
+        assertThat(second.get(0, 1)).isEqualTo(stub.durationSeconds(37.5665, 126.9780, 37.5796, 126.9770));
+        assertThat(second.get(1, 0)).isEqualTo(second.get(0, 1));
+        assertThat(second.get(1, 2)).isEqualTo(stub.durationSeconds(37.5796, 126.9770, 37.5512, 126.9882));
+
+        // 순서를 바꿔도 같은 쌍 키 → 추가 호출 없음
+        provider.build(List.of(points.get(2), points.get(0), points.get(1)));
+        Thread.sleep(100);
+        assertThat(stub.requestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void fetchesPerRequestAreBounded() throws Exception {
+        List<RoutingRequest.Point> points = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            points.add(point(37.50 + i * 0.01, 127.00 + i * 0.01));
+        }
+
+        provider.build(points);
+        awaitTrue(() -> stored.size() == 10);
+        Thread.sleep(100);
+        assertThat(stub.requestCount()).isEqualTo(10);
+
+        // 남은 5쌍은 다음 요청에서
+        provider.build(points);
+        awaitTrue(() -> stored.size() == 15);
+        assertThat(stub.requestCount()).isEqualTo(15);
+    }
+
+    private static RoutingRequest.Point point(double lat, double lng) {
+        RoutingRequest.Point p = new RoutingRequest.Point();
+        p.setLat(lat);
+        p.setLng(lng);
+        return p;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
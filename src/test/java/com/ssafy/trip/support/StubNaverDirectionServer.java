@@ -0,0 +1,121 @@
+package com.ssafy.trip.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 네이버 Direction(driving) API 로컬 대역 서버
+ *  - start / waypoints / goal 을 직선으로 잇는 trafast 경로 1개 반환
+ *  - 거리 = 직선 거리, 소요 시간 = 직선 거리 / speedKmh
+ */
+public class StubNaverDirectionServer implements AutoCloseable {
+
+    private static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    private final HttpServer server;
+    private final double speedKmh;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public StubNaverDirectionServer(double speedKmh) throws IOException {
+        this.speedKmh = speedKmh;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/map-direction/v1/driving", this::handle);
+        this.server.start();
+    }
+
+    public String directionUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/map-direction/v1/driving";
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    /** 이 서버가 돌려줄 두 점 사이 소요 시간(초) */
+    public int durationSeconds(double lat1, double lng1, double lat2, double lng2) {
+        return (int) (durationMs(distanceMeters(lat1, lng1, lat2, lng2)) / 1000);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        List<double[]> points = new ArrayList<>();
+        points.add(parseLngLat(query.get("start")));
+        String waypoints = query.get("waypoints");
+        if (waypoints != null && !waypoints.isBlank()) {
+            for (String waypoint : waypoints.split("\\|")) {
+                points.add(parseLngLat(waypoint));
+            }
+        }
+        points.add(parseLngLat(query.get("goal")));
+
+        long distance = 0;
+        StringJoiner path = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < points.size(); i++) {
+            double[] p = points.get(i);
+            path.add("[" + p[0] + "," + p[1] + "]");
+            if (i > 0) {
+                double[] prev = points.get(i - 1);
+                distance += distanceMeters(prev[1], prev[0], p[1], p[0]);
+            }
+        }
+
+        String body = "{\"code\":0,\"message\":\"ok\",\"route\":{\"trafast\":[{"
+                + "\"summary\":{\"distance\":" + distance + ",\"duration\":" + durationMs(distance) + "},"
+                + "\"path\":" + path + "}]}}";
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private long durationMs(long distanceMeters) {
+        return Math.round(distanceMeters / (speedKmh / 3.6) * 1000);
+    }
+
+    private static long distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double sinDLat = Math.sin(Math.toRadians(lat2 - lat1) * 0.5);
+        double sinDLng = Math.sin(Math.toRadians(lng2 - lng1) * 0.5);
+        double a = sinDLat * sinDLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinDLng * sinDLng;
+        return Math.round(2 * EARTH_RADIUS_M * Math.asin(Math.sqrt(Math.min(1.0, a))));
+    }
+
+    // "lng,lat" → [lng, lat]
+    private static double[] parseLngLat(String value) {
+        String[] parts = value.split(",");
+        return new double[]{Double.parseDouble(parts[0]), Double.parseDouble(parts[1])};
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String param : rawQuery.split("&")) {
+            int eq = param.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(param.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(param.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}